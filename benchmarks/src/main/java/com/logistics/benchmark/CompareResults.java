@@ -0,0 +1,123 @@
+package com.logistics.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json) and prints a Markdown table
+ * of the change per benchmark and parameter set
+ *
+ * A change counts as faster or slower only when the scores differ by more
+ * than their combined error; anything closer is reported as "~". With
+ * --fail-above PERCENT the exit status is 1 when any benchmark got slower
+ * by more than that, so the comparison can gate a release.
+ *
+ * Usage:
+ *   java -cp benchmarks/target/benchmarks.jar com.logistics.benchmark.CompareResults \
+ *       benchmarks/results/1.0.0.json benchmarks/results/1.1.0.json [--fail-above 10]
+ */
+public class CompareResults {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 4) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [--fail-above PERCENT]");
+            System.exit(2);
+        }
+        double failAbove = args.length == 4 && "--fail-above".equals(args[2])
+                ? Double.parseDouble(args[3]) : Double.POSITIVE_INFINITY;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = byKey(objectMapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = byKey(objectMapper.readTree(new File(args[1])));
+
+        System.out.println("| Benchmark | Baseline | Current | Change | |");
+        System.out.println("|-----------|----------|---------|--------|---|");
+
+        boolean failed = false;
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue().path("primaryMetric");
+            JsonNode before = baseline.containsKey(entry.getKey())
+                    ? baseline.get(entry.getKey()).path("primaryMetric") : null;
+
+            if (before == null) {
+                System.out.printf("| %s | | %s | new | |%n", entry.getKey(), format(now));
+                continue;
+            }
+
+            double oldScore = before.path("score").asDouble();
+            double newScore = now.path("score").asDouble();
+            double change = oldScore == 0 ? 0 : (newScore - oldScore) / oldScore * 100;
+            // Throughput modes report operations per time unit: higher is better
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().path("mode").asText());
+            double slowdown = higherIsBetter ? -change : change;
+
+            String verdict = "~";
+            if (Math.abs(newScore - oldScore) > error(before) + error(now)) {
+                verdict = slowdown > 0 ? "slower" : "faster";
+                if (slowdown > failAbove) {
+                    failed = true;
+                }
+            }
+            System.out.printf(Locale.ROOT, "| %s | %s | %s | %+.1f%% | %s |%n",
+                    entry.getKey(), format(before), format(now), change, verdict);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("| %s | %s | | removed | |%n", key, format(baseline.get(key).path("primaryMetric")));
+            }
+        }
+
+        if (failed) {
+            System.err.printf(Locale.ROOT, "At least one benchmark is more than %.1f%% slower%n", failAbove);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Results keyed by short benchmark name plus parameters, e.g.
+     * "SerializationBenchmark.compactToStream (size=50)", in sorted order
+     */
+    private static Map<String, JsonNode> byKey(JsonNode results) {
+        Map<String, JsonNode> byKey = new TreeMap<>();
+        for (JsonNode result : results) {
+            String name = result.path("benchmark").asText();
+            String[] parts = name.split("\\.");
+            StringBuilder key = new StringBuilder(parts.length >= 2
+                    ? parts[parts.length - 2] + "." + parts[parts.length - 1] : name);
+
+            JsonNode params = result.path("params");
+            if (params.size() > 0) {
+                key.append(" (");
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> param = fields.next();
+                    key.append(param.getKey()).append('=').append(param.getValue().asText());
+                    if (fields.hasNext()) {
+                        key.append(", ");
+                    }
+                }
+                key.append(')');
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    // JMH reports NaN error for a single measurement iteration
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String format(JsonNode metric) {
+        return String.format(Locale.ROOT, "%.3f +/- %.3f %s", metric.path("score").asDouble(),
+                error(metric), metric.path("scoreUnit").asText());
+    }
+}
@@ -0,0 +1,43 @@
+package com.logistics.benchmark;
+
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The synchronous LoggingService as it was before the ring buffer, kept as
+ * a baseline. Unlike the original it clears its history every
+ * HISTORY_LIMIT entries so long benchmark runs do not exhaust the heap.
+ */
+public class LegacyLoggingService {
+
+    private static final int HISTORY_LIMIT = 100000;
+
+    private final List<String> logs = new ArrayList<>();
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final PrintStream out;
+
+    public LegacyLoggingService(PrintStream out) {
+        this.out = out;
+    }
+
+    public void log(String level, String message) {
+        String timestamp = LocalDateTime.now().format(formatter);
+        String logEntry = String.format("[%s] [%s] %s", timestamp, level, message);
+        if (logs.size() == HISTORY_LIMIT) {
+            logs.clear();
+        }
+        logs.add(logEntry);
+        out.println(logEntry);
+    }
+
+    public void info(String message) {
+        log("INFO", message);
+    }
+
+    public void debug(String message) {
+        log("DEBUG", message);
+    }
+}
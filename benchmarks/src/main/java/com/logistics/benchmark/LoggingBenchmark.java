@@ -0,0 +1,117 @@
+package com.logistics.benchmark;
+
+import com.logistics.patterns.singleton.LogLevel;
+import com.logistics.patterns.singleton.LoggingService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a service-layer log call on the calling thread: the old
+ * synchronous logger, the ring buffer logger with a concatenated message,
+ * and the ring buffer logger with placeholders, at an enabled (INFO) and
+ * a disabled (DEBUG) level. Output goes to a discarding stream.
+ *
+ * Enabled calls on the ring buffer logger can outpace its writer; calls
+ * made while the buffer is full are cheaper drops, reported per iteration
+ * in the "dropped" column. Run with -prof gc to see allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggingBenchmark {
+
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    private LegacyLoggingService legacy;
+    private LoggingService logging;
+    private PrintStream originalOut;
+    private Integer id;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Drops {
+        public long dropped;
+        private long droppedAtStart;
+
+        @Setup(Level.Iteration)
+        public void start() {
+            droppedAtStart = LoggingService.getInstance().getDroppedCount();
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop() {
+            dropped = LoggingService.getInstance().getDroppedCount() - droppedAtStart;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // The writer captures System.out when the singleton is created
+        originalOut = System.out;
+        System.setOut(DISCARD);
+        logging = LoggingService.getInstance();
+        logging.setLevel(LogLevel.INFO);
+        legacy = new LegacyLoggingService(DISCARD);
+        id = 4242;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public void legacyEnabled() {
+        legacy.info("Fetching shipment with ID: " + id);
+    }
+
+    @Benchmark
+    public void concatenatedEnabled(Drops drops) {
+        logging.info("Fetching shipment with ID: " + id);
+    }
+
+    @Benchmark
+    public void parameterizedEnabled(Drops drops) {
+        logging.info("Fetching shipment with ID: {}", id);
+    }
+
+    @Benchmark
+    public void logEnabled(Drops drops) {
+        // The string-level entry point, with a message built by the caller
+        logging.log("INFO", "Fetching shipment with ID: 4242");
+    }
+
+    @Benchmark
+    public void legacyDisabled() {
+        // The old logger had no levels: debug was always formatted and printed
+        legacy.debug("Fetching shipment with ID: " + id);
+    }
+
+    @Benchmark
+    public void concatenatedDisabled() {
+        logging.debug("Fetching shipment with ID: " + id);
+    }
+
+    @Benchmark
+    public void parameterizedDisabled() {
+        logging.debug("Fetching shipment with ID: {}", id);
+    }
+}
@@ -0,0 +1,103 @@
+package com.logistics.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.logistics.dto.ShipmentDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a list of ShipmentDTOs, the body of a shipment
+ * page, per list: indented as the API is configured
+ * (spring.jackson.serialization.indent_output) and compact. Written to a
+ * discarding stream, as the response body would be, and to a String.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private static final String[] TYPES = {"EXPRESS", "STANDARD", "ECONOMY"};
+
+    // The default page size and the maximum one
+    @Param({"50", "500"})
+    public int size;
+
+    private List<ShipmentDTO> page;
+    private ObjectWriter indented;
+    private ObjectWriter compact;
+
+    @Setup
+    public void setUp() {
+        // What Spring Boot registers for the API, LocalDate as ISO dates included
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        indented = objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT);
+        compact = objectMapper.writer();
+
+        page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String type = TYPES[i % TYPES.length];
+            ShipmentDTO dto = new ShipmentDTO();
+            dto.setId(i + 1);
+            dto.setShipmentType(type);
+            dto.setTrackingNumber("TRK" + (100000 + i));
+            dto.setSenderName("Sender " + i);
+            dto.setRecipientName("Recipient " + i);
+            dto.setOrigin("Almaty");
+            dto.setDestination("Astana");
+            dto.setWeight(12.5 + i % 50);
+            dto.setStatus("IN_TRANSIT");
+            dto.setPriority("HIGH");
+            dto.setEstimatedDelivery(LocalDate.of(2024, 6, 1));
+            dto.setVehicleId(i % 4 == 0 ? null : i % 20 + 1);
+            dto.setWarehouseId(i % 3 == 0 ? null : i % 5 + 1);
+            if ("EXPRESS".equals(type)) {
+                dto.setIsFragile(true);
+            } else if ("STANDARD".equals(type)) {
+                dto.setTemperatureControlled(false);
+            } else {
+                dto.setCustomsCleared(true);
+            }
+            page.add(dto);
+        }
+    }
+
+    // A new discarding stream per call: Jackson closes the stream it writes to
+    @Benchmark
+    public void indentedToStream() throws IOException {
+        indented.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public void compactToStream() throws IOException {
+        compact.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public String compactToString() throws IOException {
+        return compact.writeValueAsString(page);
+    }
+}
@@ -0,0 +1,76 @@
+package com.logistics.benchmark;
+
+import com.logistics.model.Shipment;
+import com.logistics.patterns.builder.ShipmentBuilder;
+import com.logistics.patterns.factory.ShipmentFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating one shipment: the bare factory call, the factory with
+ * all fields and the type-specific attribute, and the builder as the
+ * service uses it for create and update requests (validation, factory and
+ * optional fields)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipmentCreationBenchmark {
+
+    @Param({"EXPRESS", "STANDARD", "ECONOMY"})
+    public String type;
+
+    private ShipmentFactory factory;
+    private LocalDate delivery;
+
+    @Setup
+    public void setUp() {
+        factory = new ShipmentFactory();
+        delivery = LocalDate.of(2024, 6, 1);
+    }
+
+    @Benchmark
+    public Shipment factoryCreate() {
+        return factory.createShipment(type);
+    }
+
+    @Benchmark
+    public Shipment factoryWithAttributes() {
+        return factory.createShipmentWithAttributes(type, "TRK100042", "Sender 42", "Recipient 42",
+                "Almaty", "Astana", 12.5, true);
+    }
+
+    @Benchmark
+    public Shipment builderBuild() {
+        return new ShipmentBuilder()
+                .type(type)
+                .trackingNumber("TRK100042")
+                .sender("Sender 42")
+                .recipient("Recipient 42")
+                .from("Almaty")
+                .to("Astana")
+                .weight(12.5)
+                .status("PENDING")
+                .priority("HIGH")
+                .estimatedDelivery(delivery)
+                .vehicleId(7)
+                .warehouseId(3)
+                .specialAttribute(true)
+                .build();
+    }
+}
@@ -0,0 +1,1006 @@
+package com.logistics.benchmark;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory ResultSet over fixed rows, so row mappers can be measured without a database
+ *
+ * Lookups by label go through a lower-cased name map like the PostgreSQL
+ * driver does, so by-name access costs roughly what it costs in production.
+ * Only the getters used by the repository mappers are implemented.
+ */
+@SuppressWarnings("deprecation") // implementing ResultSet means overriding its deprecated getters
+public class StubResultSet implements ResultSet {
+
+    private final Map<String, Integer> indexByLabel = new HashMap<>();
+    private final Object[][] rows;
+    private int cursor = -1;
+    private boolean lastNull;
+
+    public StubResultSet(String[] labels, Object[][] rows) {
+        for (int i = 0; i < labels.length; i++) {
+            indexByLabel.put(labels[i].toLowerCase(Locale.ROOT), i + 1);
+        }
+        this.rows = rows;
+    }
+
+    /**
+     * Rewinds to before the first row
+     */
+    public void reset() {
+        cursor = -1;
+    }
+
+    private Object value(int column) {
+        Object value = rows[cursor][column - 1];
+        lastNull = value == null;
+        return value;
+    }
+
+    @Override
+    public boolean absolute(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void afterLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void beforeFirst() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void cancelRowUpdates() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clearWarnings() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        cursor = rows.length;
+    }
+
+    @Override
+    public void deleteRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int findColumn(String columnLabel) {
+        Integer index = indexByLabel.get(columnLabel.toLowerCase(Locale.ROOT));
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column: " + columnLabel);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean first() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Array getArray(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Array getArray(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getAsciiStream(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getAsciiStream(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.math.BigDecimal getBigDecimal(String columnLabel, int arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.math.BigDecimal getBigDecimal(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.math.BigDecimal getBigDecimal(int columnIndex, int arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.math.BigDecimal getBigDecimal(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getBinaryStream(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getBinaryStream(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Blob getBlob(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Blob getBlob(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null && (Boolean) value;
+    }
+
+    @Override
+    public byte getByte(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public byte getByte(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.Reader getCharacterStream(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.Reader getCharacterStream(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Clob getClob(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Clob getClob(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getConcurrency() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getCursorName() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Date getDate(String columnLabel, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Date getDate(String columnLabel) {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public java.sql.Date getDate(int columnIndex, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Date getDate(int columnIndex) {
+        return (java.sql.Date) value(columnIndex);
+    }
+
+    @Override
+    public double getDouble(String columnLabel) {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    @Override
+    public int getFetchDirection() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getFetchSize() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public float getFloat(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getHoldability() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getInt(String columnLabel) {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    @Override
+    public long getLong(String columnLabel) {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    @Override
+    public java.sql.ResultSetMetaData getMetaData() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.Reader getNCharacterStream(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.Reader getNCharacterStream(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.NClob getNClob(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.NClob getNClob(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getNString(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getNString(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T getObject(String columnLabel, Class<T> arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(String columnLabel, java.util.Map<String, Class<?>> arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(String columnLabel) {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public <T> T getObject(int columnIndex, Class<T> arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(int columnIndex, java.util.Map<String, Class<?>> arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Object getObject(int columnIndex) {
+        return value(columnIndex);
+    }
+
+    @Override
+    public java.sql.Ref getRef(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Ref getRef(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.RowId getRowId(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.RowId getRowId(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.SQLXML getSQLXML(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.SQLXML getSQLXML(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public short getShort(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Statement getStatement() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getString(String columnLabel) {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = value(columnIndex);
+        return value != null ? value.toString() : null;
+    }
+
+    @Override
+    public java.sql.Time getTime(String columnLabel, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Time getTime(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Time getTime(int columnIndex, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Time getTime(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Timestamp getTimestamp(String columnLabel, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Timestamp getTimestamp(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Timestamp getTimestamp(int columnIndex, java.util.Calendar arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.Timestamp getTimestamp(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int getType() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.net.URL getURL(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.net.URL getURL(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getUnicodeStream(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.io.InputStream getUnicodeStream(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public java.sql.SQLWarning getWarnings() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insertRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public boolean isFirst() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isLast() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> arg0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean last() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void moveToCurrentRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void moveToInsertRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean next() {
+        return ++cursor < rows.length;
+    }
+
+    @Override
+    public boolean previous() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void refreshRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean relative(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean rowDeleted() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean rowInserted() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean rowUpdated() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setFetchDirection(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setFetchSize(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> arg0) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateArray(String columnLabel, java.sql.Array arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateArray(int columnIndex, java.sql.Array arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, java.io.InputStream arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, java.io.InputStream arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, java.math.BigDecimal arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, java.math.BigDecimal arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, java.io.InputStream arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, java.io.InputStream arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, java.sql.Blob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, java.io.InputStream arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, java.io.InputStream arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, java.sql.Blob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, java.io.Reader arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, java.io.Reader arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, java.sql.Clob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, java.sql.Clob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateDate(String columnLabel, java.sql.Date arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateDate(int columnIndex, java.sql.Date arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, java.sql.NClob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, java.io.Reader arg1, long arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, java.io.Reader arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, java.sql.NClob arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNull(String columnLabel) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateNull(int columnIndex) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object arg1, int arg2) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateRef(String columnLabel, java.sql.Ref arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateRef(int columnIndex, java.sql.Ref arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateRow() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, java.sql.RowId arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, java.sql.RowId arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, java.sql.SQLXML arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, java.sql.SQLXML arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateString(String columnLabel, String arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateString(int columnIndex, String arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateTime(String columnLabel, java.sql.Time arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateTime(int columnIndex, java.sql.Time arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, java.sql.Timestamp arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, java.sql.Timestamp arg1) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean wasNull() {
+        return lastNull;
+    }
+}
@@ -0,0 +1,70 @@
+package com.logistics.loadtest;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Heap bytes allocated by the request thread while serving each request,
+ * summed per route ("GET /api/shipments/{id}")
+ *
+ * Covers everything the request does on its own thread: JSON parsing,
+ * service and repository code, JDBC and response writing. Only synchronous
+ * requests are fully measured, which is every request in the suite's mix.
+ */
+class AllocationRecorder implements Filter {
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, LongAdder> bytesByRoute = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> requestsByRoute = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!recording) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        chain.doFilter(request, response);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        HttpServletRequest http = (HttpServletRequest) request;
+        Object pattern = http.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = http.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+        bytesByRoute.computeIfAbsent(route, key -> new LongAdder()).add(allocated);
+        requestsByRoute.computeIfAbsent(route, key -> new LongAdder()).increment();
+    }
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    /**
+     * Mean bytes allocated per request on the route, or -1 if none was recorded
+     */
+    double bytesPerRequest(String route) {
+        LongAdder requests = requestsByRoute.get(route);
+        if (requests == null || requests.sum() == 0) {
+            return -1;
+        }
+        return (double) bytesByRoute.get(route).sum() / requests.sum();
+    }
+}
@@ -0,0 +1,258 @@
+package com.logistics.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logistics.metrics.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load test against a running instance of the API
+ *
+ * Each of --clients simulated clients keeps exactly one request in flight,
+ * issuing the next as soon as the previous one completes, so the number of
+ * concurrent requests stays fixed and throughput shows how many the server
+ * completes per second. Requests are sent asynchronously, so 10,000 clients
+ * need neither 10,000 threads nor Java 21 on the load generator.
+ *
+ * The read mix rotates over shipment lookups by id and by tracking number,
+ * the first page of all shipments and a page by status, over shipments
+ * created by --seed. Results after the warm-up are printed and, with --out,
+ * appended as a CSV row so runs can be compared.
+ *
+ * Usage:
+ *   java -cp benchmarks/target/benchmarks.jar com.logistics.loadtest.HttpLoadTest \
+ *       --base-url http://localhost:8081 --clients 10000 --warmup 10 --duration 30 \
+ *       --seed 1000 --label virtual --out load-results.csv
+ */
+public class HttpLoadTest {
+
+    private static final String CSV_HEADER =
+            "timestamp,label,clients,duration_s,requests,throughput_rps,ok,http_errors,failures,p50_ms,p95_ms,p99_ms,max_ms";
+
+    private final HttpClient client;
+    private final ExecutorService callbacks;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int clients;
+    private final Duration requestTimeout;
+    private final List<String> paths = new ArrayList<>();
+
+    private final Histogram latency = new Histogram();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder httpErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MAX_VALUE;
+    private volatile boolean stopping;
+
+    public HttpLoadTest(String baseUrl, int clients, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.clients = clients;
+        this.requestTimeout = requestTimeout;
+        this.callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(callbacks)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        HttpLoadTest test = new HttpLoadTest(
+                options.getOrDefault("base-url", "http://localhost:8081"),
+                Integer.parseInt(options.getOrDefault("clients", "10000")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "30"))));
+
+        test.seed(Integer.parseInt(options.getOrDefault("seed", "1000")));
+        Result result = test.run(
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))));
+
+        String label = options.getOrDefault("label", "run");
+        result.print(System.out, label);
+        if (options.containsKey("out")) {
+            result.appendCsv(Path.of(options.get("out")), label);
+        }
+        test.close();
+    }
+
+    /**
+     * Creates shipments to read and builds the request mix from them
+     */
+    public void seed(int count) throws IOException, InterruptedException {
+        String prefix = "LOAD-" + Long.toString(System.currentTimeMillis(), 36).toUpperCase() + "-";
+        ArrayNode batch = objectMapper.createArrayNode();
+        String[] types = {"EXPRESS", "STANDARD", "ECONOMY"};
+        String[] statuses = {"PENDING", "IN_TRANSIT", "DELIVERED"};
+        for (int i = 0; i < count; i++) {
+            ObjectNode shipment = batch.addObject();
+            shipment.put("trackingNumber", prefix + i);
+            shipment.put("shipmentType", types[i % types.length]);
+            shipment.put("senderName", "Load Sender " + i);
+            shipment.put("recipientName", "Load Recipient " + i);
+            shipment.put("origin", "Almaty");
+            shipment.put("destination", "Astana");
+            shipment.put("weight", 1 + i % 40);
+            shipment.put("status", statuses[i % statuses.length]);
+            shipment.put("priority", "MEDIUM");
+        }
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/shipments/batch"))
+                        .timeout(Duration.ofMinutes(5))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+
+        for (JsonNode item : objectMapper.readTree(response.body()).path("items")) {
+            if ("CREATED".equals(item.path("result").asText())) {
+                paths.add("/api/shipments/" + item.path("id").asInt());
+                paths.add("/api/shipments/tracking/" + item.path("trackingNumber").asText());
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalStateException("Seeding created no shipments");
+        }
+        paths.add("/api/shipments?limit=20");
+        paths.add("/api/shipments/status/IN_TRANSIT?limit=20");
+    }
+
+    public Result run(Duration warmup, Duration duration) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(clients);
+        long started = System.nanoTime();
+        measureFrom = started + warmup.toNanos();
+        measureUntil = measureFrom + duration.toNanos();
+
+        for (int i = 0; i < clients; i++) {
+            send(finished);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(measureUntil - System.nanoTime());
+        stopping = true;
+        // In-flight requests are allowed to finish but are no longer counted
+        finished.await(requestTimeout.toMillis() + 5000, TimeUnit.MILLISECONDS);
+
+        return new Result(clients, duration, latency, ok.sum(), httpErrors.sum(), failures.sum());
+    }
+
+    public void close() {
+        callbacks.shutdownNow();
+    }
+
+    private void send(CountDownLatch finished) {
+        if (stopping) {
+            finished.countDown();
+            return;
+        }
+        String path = paths.get(ThreadLocalRandom.current().nextInt(paths.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                // Async so an immediate failure cannot recurse on the caller's stack
+                .whenCompleteAsync((response, error) -> {
+                    long completed = System.nanoTime();
+                    if (sent >= measureFrom && completed <= measureUntil) {
+                        latency.record(completed - sent);
+                        if (error != null) {
+                            failures.increment();
+                        } else if (response.statusCode() / 100 == 2) {
+                            ok.increment();
+                        } else {
+                            httpErrors.increment();
+                        }
+                    }
+                    send(finished);
+                }, callbacks);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    public static final class Result {
+        final int clients;
+        final Duration duration;
+        final long requests;
+        final long ok;
+        final long httpErrors;
+        final long failures;
+        final double p50Millis;
+        final double p95Millis;
+        final double p99Millis;
+        final double maxMillis;
+
+        Result(int clients, Duration duration, Histogram latency, long ok, long httpErrors, long failures) {
+            this.clients = clients;
+            this.duration = duration;
+            this.requests = ok + httpErrors + failures;
+            this.ok = ok;
+            this.httpErrors = httpErrors;
+            this.failures = failures;
+            this.p50Millis = latency.percentile(0.50) / 1e6;
+            this.p95Millis = latency.percentile(0.95) / 1e6;
+            this.p99Millis = latency.percentile(0.99) / 1e6;
+            this.maxMillis = latency.getMax() / 1e6;
+        }
+
+        double throughput() {
+            return requests / (duration.toNanos() / 1e9);
+        }
+
+        void print(PrintStream out, String label) {
+            out.printf("%s: %d clients for %d s%n", label, clients, duration.toSeconds());
+            out.printf("  requests   %d (%d ok, %d HTTP errors, %d failed)%n", requests, ok, httpErrors, failures);
+            out.printf("  throughput %.1f req/s%n", throughput());
+            out.printf("  latency    p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                    p50Millis, p95Millis, p99Millis, maxMillis);
+        }
+
+        void appendCsv(Path file, String label) throws IOException {
+            String row = String.format(java.util.Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%d,%d,%d,%.2f,%.2f,%.2f,%.2f%n",
+                    Instant.now(), label, clients, duration.toSeconds(), requests, throughput(),
+                    ok, httpErrors, failures, p50Millis, p95Millis, p99Millis, maxMillis);
+            if (!Files.exists(file)) {
+                Files.writeString(file, CSV_HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, row, StandardOpenOption.APPEND);
+        }
+    }
+}
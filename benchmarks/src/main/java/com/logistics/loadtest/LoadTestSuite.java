@@ -0,0 +1,496 @@
+package com.logistics.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logistics.LogisticsApplication;
+import com.logistics.metrics.Histogram;
+import com.logistics.patterns.singleton.LogLevel;
+import com.logistics.patterns.singleton.LoggingService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test of the whole API
+ *
+ * Starts the application in this JVM against an in-memory H2 database in
+ * PostgreSQL mode, migrated from the H2 copies of the migrations in this
+ * module, seeds vehicles, warehouses and shipments through the API
+ * and replays a weighted request mix with a fixed number of closed-loop
+ * clients. Reports throughput, latency percentiles and heap allocated per
+ * request for every endpoint, plus GC activity over the run.
+ *
+ * Runs are repeatable: seeded data depends only on the volumes, and each
+ * client draws its requests from its own generator seeded from --seed.
+ * The load generator shares the JVM and CPUs with the server, so compare
+ * runs made on the same machine with the same options.
+ *
+ * Operations: tracking (lookup by tracking number), byid, list (first page),
+ * create (new shipment) and status (status change through PUT).
+ *
+ * Usage:
+ *   java -cp benchmarks/target/benchmarks.jar com.logistics.loadtest.LoadTestSuite \
+ *       --shipments 50000 --vehicles 100 --warehouses 20 --clients 64 \
+ *       --mix tracking=80,create=10,status=10 --warmup 20 --duration 60 \
+ *       --label baseline --out load-suite.csv
+ */
+public class LoadTestSuite {
+
+    private static final String CSV_HEADER = "timestamp,label,endpoint,clients,duration_s,requests,throughput_rps,"
+            + "errors,p50_ms,p95_ms,p99_ms,max_ms,alloc_kb_per_request,alloc_mb_per_s";
+
+    private static final String[] SHIPMENT_TYPES = {"EXPRESS", "STANDARD", "ECONOMY"};
+    private static final String[] STATUSES = {"PENDING", "IN_TRANSIT", "DELIVERED"};
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW"};
+    private static final String[] CITIES = {"Almaty", "Astana", "Shymkent", "Karaganda", "Aktobe", "Pavlodar"};
+    private static final String[] VEHICLE_TYPES = {"AIR", "SEA", "LAND"};
+    private static final int SEED_BATCH_SIZE = 5000;
+
+    enum Operation {
+        TRACKING("GET", "/api/shipments/tracking/{trackingNumber}"),
+        BYID("GET", "/api/shipments/{id}"),
+        LIST("GET", "/api/shipments"),
+        CREATE("POST", "/api/shipments"),
+        STATUS("PUT", "/api/shipments/{id}");
+
+        final String method;
+        final String route;
+
+        Operation(String method, String route) {
+            this.method = method;
+            this.route = route;
+        }
+
+        String routeKey() {
+            return method + " " + route;
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService callbacks;
+    private final HttpClient client;
+    private final AllocationRecorder allocations = new AllocationRecorder();
+
+    private final Map<String, String> options;
+    private final int clients;
+    private final Duration requestTimeout;
+    private final Operation[] weightedOperations;
+
+    private String baseUrl;
+    private int[] vehicleIds;
+    private int[] warehouseIds;
+    private int[] shipmentIds;
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MAX_VALUE;
+    private volatile boolean stopping;
+
+    public LoadTestSuite(Map<String, String> options) {
+        this.options = options;
+        this.clients = intOption("clients", 64);
+        this.requestTimeout = Duration.ofSeconds(intOption("timeout", 30));
+        this.weightedOperations = parseMix(options.getOrDefault("mix", "tracking=80,create=10,status=10"));
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats());
+        }
+        this.callbacks = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(callbacks)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        LoadTestSuite suite = new LoadTestSuite(options);
+        try {
+            ConfigurableApplicationContext context = suite.startApplication();
+            try {
+                suite.seed();
+                suite.run();
+            } finally {
+                context.close();
+            }
+        } finally {
+            suite.callbacks.shutdownNow();
+        }
+    }
+
+    ConfigurableApplicationContext startApplication() {
+        // Per-request log lines would dominate the profile
+        LoggingService.getInstance().setLevel(LogLevel.WARN);
+
+        FilterRegistrationBean<AllocationRecorder> registration = new FilterRegistrationBean<>(allocations);
+        registration.addUrlPatterns("/api/*");
+
+        SpringApplication application = new SpringApplication(LogisticsApplication.class);
+        application.addInitializers(context ->
+                context.getBeanFactory().registerSingleton("loadTestAllocationRecorder", registration));
+
+        String database = "loadtest" + System.nanoTime();
+        ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.logistics=WARN",
+                // Flyway's {vendor} location resolves to db/migration/h2 in this module
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        return context;
+    }
+
+    void seed() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+
+        vehicleIds = new int[intOption("vehicles", 100)];
+        for (int i = 0; i < vehicleIds.length; i++) {
+            String type = VEHICLE_TYPES[i % VEHICLE_TYPES.length];
+            ObjectNode vehicle = objectMapper.createObjectNode();
+            vehicle.put("vehicleType", type);
+            vehicle.put("name", "Load Vehicle " + i);
+            vehicle.put("licensePlate", String.format("LT-%06d", i));
+            vehicle.put("capacity", 1000 + (i % 10) * 500);
+            vehicle.put("status", "AVAILABLE");
+            if ("AIR".equals(type)) {
+                vehicle.put("maxAltitude", 11000);
+            } else if ("SEA".equals(type)) {
+                vehicle.put("cargoType", "CONTAINER");
+            } else {
+                vehicle.put("fuelType", "DIESEL");
+            }
+            vehicleIds[i] = post("/api/vehicles", vehicle).path("id").asInt();
+        }
+
+        warehouseIds = new int[intOption("warehouses", 20)];
+        for (int i = 0; i < warehouseIds.length; i++) {
+            ObjectNode warehouse = objectMapper.createObjectNode();
+            warehouse.put("name", "Load Warehouse " + i);
+            warehouse.put("location", CITIES[i % CITIES.length]);
+            warehouse.put("capacity", 1_000_000);
+            warehouse.put("currentLoad", 0);
+            warehouseIds[i] = post("/api/warehouses", warehouse).path("id").asInt();
+        }
+
+        shipmentIds = new int[intOption("shipments", 50000)];
+        for (int from = 0; from < shipmentIds.length; from += SEED_BATCH_SIZE) {
+            int to = Math.min(from + SEED_BATCH_SIZE, shipmentIds.length);
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (int i = from; i < to; i++) {
+                batch.add(shipment(i, STATUSES[i % STATUSES.length]));
+            }
+            for (JsonNode item : post("/api/shipments/batch", batch).path("items")) {
+                if (!"CREATED".equals(item.path("result").asText())) {
+                    throw new IllegalStateException("Seeding shipment failed: " + item);
+                }
+                shipmentIds[from + item.path("index").asInt()] = item.path("id").asInt();
+            }
+        }
+
+        System.out.printf("Seeded %d vehicles, %d warehouses and %d shipments in %.1f s%n",
+                vehicleIds.length, warehouseIds.length, shipmentIds.length, (System.nanoTime() - started) / 1e9);
+    }
+
+    void run() throws InterruptedException, IOException {
+        Duration warmup = Duration.ofSeconds(intOption("warmup", 20));
+        Duration duration = Duration.ofSeconds(intOption("duration", 60));
+        long randomSeed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        CountDownLatch finished = new CountDownLatch(clients);
+        measureFrom = System.nanoTime() + warmup.toNanos();
+        measureUntil = measureFrom + duration.toNanos();
+        for (int i = 0; i < clients; i++) {
+            send(new SplittableRandom(randomSeed + i), finished);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(measureFrom - System.nanoTime());
+        allocations.start();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+
+        TimeUnit.NANOSECONDS.sleep(measureUntil - System.nanoTime());
+        allocations.stop();
+        gcCount = gcCount() - gcCount;
+        gcMillis = gcMillis() - gcMillis;
+        stopping = true;
+        finished.await(requestTimeout.toMillis() + 5000, TimeUnit.MILLISECONDS);
+
+        report(System.out, duration, gcCount, gcMillis);
+        if (options.containsKey("out")) {
+            appendCsv(Path.of(options.get("out")), duration);
+        }
+    }
+
+    private void send(SplittableRandom random, CountDownLatch finished) {
+        if (stopping) {
+            finished.countDown();
+            return;
+        }
+        Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+        HttpRequest request = request(operation, random);
+
+        long sent = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                // Async so an immediate failure cannot recurse on the caller's stack
+                .whenCompleteAsync((response, error) -> {
+                    long completed = System.nanoTime();
+                    if (sent >= measureFrom && completed <= measureUntil) {
+                        stats.get(operation).record(completed - sent, response, error);
+                    }
+                    send(random, finished);
+                }, callbacks);
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        int index = random.nextInt(shipmentIds.length);
+        switch (operation) {
+            case TRACKING:
+                return get("/api/shipments/tracking/" + trackingNumber(index));
+            case BYID:
+                return get("/api/shipments/" + shipmentIds[index]);
+            case LIST:
+                return get("/api/shipments?limit=20");
+            case CREATE:
+                // Created shipments get tracking numbers beyond the seeded range
+                ObjectNode created = shipment(shipmentIds.length + (int) createdCount.getAndIncrement(),
+                        "PENDING");
+                return json(HttpRequest.newBuilder(URI.create(baseUrl + "/api/shipments")), created, "POST");
+            case STATUS:
+                ObjectNode updated = shipment(index, STATUSES[random.nextInt(STATUSES.length)]);
+                return json(HttpRequest.newBuilder(URI.create(baseUrl + "/api/shipments/" + shipmentIds[index])),
+                        updated, "PUT");
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * The shipment seeded at index, with the given status. Every field but
+     * the status depends only on the index.
+     */
+    private ObjectNode shipment(int index, String status) {
+        String type = SHIPMENT_TYPES[index % SHIPMENT_TYPES.length];
+        ObjectNode shipment = objectMapper.createObjectNode();
+        shipment.put("trackingNumber", trackingNumber(index));
+        shipment.put("shipmentType", type);
+        shipment.put("senderName", "Sender " + index);
+        shipment.put("recipientName", "Recipient " + index);
+        shipment.put("origin", CITIES[index % CITIES.length]);
+        shipment.put("destination", CITIES[(index / CITIES.length + 1 + index) % CITIES.length]);
+        shipment.put("weight", 1 + index % 400 / 4.0);
+        shipment.put("status", status);
+        shipment.put("priority", PRIORITIES[index % PRIORITIES.length]);
+        shipment.put("estimatedDelivery", LocalDate.of(2025, 1, 1).plusDays(index % 365).toString());
+        shipment.put("vehicleId", vehicleIds[index % vehicleIds.length]);
+        shipment.put("warehouseId", warehouseIds[index % warehouseIds.length]);
+        if ("EXPRESS".equals(type)) {
+            shipment.put("isFragile", index % 2 == 0);
+        } else if ("STANDARD".equals(type)) {
+            shipment.put("temperatureControlled", index % 2 == 0);
+        } else {
+            shipment.put("customsCleared", index % 2 == 0);
+        }
+        return shipment;
+    }
+
+    private static String trackingNumber(int index) {
+        return String.format("LT%09d", index);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout).GET().build();
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, JsonNode body, String method) {
+        try {
+            return builder.timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode post(String path, JsonNode body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding " + path + " failed with HTTP "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void report(PrintStream out, Duration duration, long gcCount, long gcMillis) {
+        double seconds = duration.toNanos() / 1e9;
+        out.printf("%n%d clients for %d s, mix %s%n", clients, duration.toSeconds(),
+                options.getOrDefault("mix", "tracking=80,create=10,status=10"));
+        out.printf("%-46s %9s %9s %7s %8s %8s %8s %8s %9s %8s%n", "Endpoint", "Requests", "Req/s", "Errors",
+                "p50 ms", "p95 ms", "p99 ms", "max ms", "KB/req", "MB/s");
+
+        long totalRequests = 0;
+        for (Operation operation : Operation.values()) {
+            EndpointStats endpoint = stats.get(operation);
+            long requests = endpoint.latency.getCount();
+            if (requests == 0) {
+                continue;
+            }
+            totalRequests += requests;
+            double bytesPerRequest = allocations.bytesPerRequest(operation.routeKey());
+            out.printf(Locale.ROOT, "%-46s %9d %9.1f %7d %8.2f %8.2f %8.2f %8.2f %9.1f %8.1f%n",
+                    operation.routeKey(), requests, requests / seconds, endpoint.errors(),
+                    endpoint.latency.percentile(0.50) / 1e6, endpoint.latency.percentile(0.95) / 1e6,
+                    endpoint.latency.percentile(0.99) / 1e6, endpoint.latency.getMax() / 1e6,
+                    bytesPerRequest / 1024, bytesPerRequest * requests / seconds / (1024 * 1024));
+        }
+        out.printf(Locale.ROOT, "%-46s %9d %9.1f%n", "Total", totalRequests, totalRequests / seconds);
+        out.printf(Locale.ROOT, "GC: %d collections, %d ms (%.1f%% of the run)%n",
+                gcCount, gcMillis, gcMillis / (seconds * 10));
+    }
+
+    private void appendCsv(Path file, Duration duration) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        String label = options.getOrDefault("label", "run");
+        Instant timestamp = Instant.now();
+        StringBuilder rows = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            EndpointStats endpoint = stats.get(operation);
+            long requests = endpoint.latency.getCount();
+            if (requests == 0) {
+                continue;
+            }
+            double bytesPerRequest = allocations.bytesPerRequest(operation.routeKey());
+            rows.append(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%d,%.1f,%d,%.2f,%.2f,%.2f,%.2f,%.1f,%.1f%n",
+                    timestamp, label, operation.routeKey(), clients, duration.toSeconds(), requests,
+                    requests / seconds, endpoint.errors(),
+                    endpoint.latency.percentile(0.50) / 1e6, endpoint.latency.percentile(0.95) / 1e6,
+                    endpoint.latency.percentile(0.99) / 1e6, endpoint.latency.getMax() / 1e6,
+                    bytesPerRequest / 1024, bytesPerRequest * requests / seconds / (1024 * 1024)));
+        }
+        if (!Files.exists(file)) {
+            Files.writeString(file, CSV_HEADER + System.lineSeparator());
+        }
+        Files.writeString(file, rows, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Expands "tracking=80,create=10,status=10" into a table with one entry per
+     * weight unit, so a uniform pick follows the weights
+     */
+    private static Operation[] parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        int total = 0;
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight in --mix, got " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights must not be negative: " + part);
+            }
+            weights.put(Operation.valueOf(entry[0].trim().toUpperCase(Locale.ROOT)), weight);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The mix needs at least one positive weight");
+        }
+
+        Operation[] table = new Operation[total];
+        int next = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                table[next++] = entry.getKey();
+            }
+        }
+        return table;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static final class EndpointStats {
+        final Histogram latency = new Histogram();
+        final LongAdder httpErrors = new LongAdder();
+        final LongAdder failures = new LongAdder();
+
+        void record(long nanos, HttpResponse<?> response, Throwable error) {
+            latency.record(nanos);
+            if (error != null) {
+                failures.increment();
+            } else if (response.statusCode() / 100 != 2) {
+                httpErrors.increment();
+            }
+        }
+
+        long errors() {
+            return httpErrors.sum() + failures.sum();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.logistics.repository;
+
+import com.logistics.benchmark.StubResultSet;
+import com.logistics.model.EconomyShipment;
+import com.logistics.model.ExpressShipment;
+import com.logistics.model.Shipment;
+import com.logistics.model.StandardShipment;
+import com.logistics.patterns.factory.ShipmentFactory;
+import com.logistics.patterns.factory.VehicleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shipment row mapping by column index (current mapper) against by column
+ * label (the mapper used before explicit projection), and the vehicle and
+ * warehouse mappers. Scores are per row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    // Same order as ShipmentRepository.SELECT_COLUMNS
+    private static final String[] LABELS = {
+            "id", "tracking_number", "shipment_type", "sender_name", "recipient_name",
+            "origin", "destination", "weight", "status", "priority", "estimated_delivery",
+            "vehicle_id", "warehouse_id", "is_fragile", "temperature_controlled", "customs_cleared"
+    };
+    private static final String[] TYPES = {"EXPRESS", "STANDARD", "ECONOMY"};
+
+    // Same order as VehicleRepository.SELECT_COLUMNS and WarehouseRepository.SELECT_COLUMNS
+    private static final String[] VEHICLE_LABELS = {
+            "id", "vehicle_type", "name", "license_plate", "capacity", "status",
+            "max_altitude", "cargo_type", "fuel_type"
+    };
+    private static final String[] VEHICLE_TYPES = {"AIR", "SEA", "LAND"};
+    private static final String[] WAREHOUSE_LABELS = {"id", "name", "location", "capacity", "current_load"};
+
+    private ShipmentRepository repository;
+    private ShipmentFactory shipmentFactory;
+    private StubResultSet rows;
+
+    private VehicleRepository vehicleRepository;
+    private StubResultSet vehicleRows;
+    private WarehouseRepository warehouseRepository;
+    private StubResultSet warehouseRows;
+
+    @Setup
+    public void setUp() {
+        shipmentFactory = new ShipmentFactory();
+        repository = new ShipmentRepository(null, shipmentFactory, new ShipmentCache(), new TrackingNumberFilter(null));
+
+        Object[][] data = new Object[ROWS][];
+        Date delivery = Date.valueOf(LocalDate.of(2024, 6, 1));
+        for (int i = 0; i < ROWS; i++) {
+            String type = TYPES[i % TYPES.length];
+            data[i] = new Object[]{
+                    i + 1, "TRK" + (100000 + i), type, "Sender " + i, "Recipient " + i,
+                    "Almaty", "Astana", 12.5 + i % 50, "IN_TRANSIT", "HIGH", delivery,
+                    i % 4 == 0 ? null : i % 20 + 1, i % 3 == 0 ? null : i % 5 + 1,
+                    "EXPRESS".equals(type) ? Boolean.TRUE : null,
+                    "STANDARD".equals(type) ? Boolean.TRUE : null,
+                    "ECONOMY".equals(type) ? Boolean.FALSE : null
+            };
+        }
+        rows = new StubResultSet(LABELS, data);
+
+        vehicleRepository = new VehicleRepository(null, new VehicleFactory());
+        Object[][] vehicles = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            String type = VEHICLE_TYPES[i % VEHICLE_TYPES.length];
+            vehicles[i] = new Object[]{
+                    i + 1, type, "Vehicle " + i, "KZ" + (1000 + i), 500.0 + i % 100, "AVAILABLE",
+                    "AIR".equals(type) ? 10000 : null,
+                    "SEA".equals(type) ? "CONTAINER" : null,
+                    "LAND".equals(type) ? "DIESEL" : null
+            };
+        }
+        vehicleRows = new StubResultSet(VEHICLE_LABELS, vehicles);
+
+        warehouseRepository = new WarehouseRepository(null, new ShipmentCache());
+        Object[][] warehouses = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            warehouses[i] = new Object[]{i + 1, "Warehouse " + i, "Almaty", 10000, i % 10000};
+        }
+        warehouseRows = new StubResultSet(WAREHOUSE_LABELS, warehouses);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void byIndex(Blackhole blackhole) throws SQLException {
+        rows.reset();
+        while (rows.next()) {
+            blackhole.consume(repository.mapResultSetToShipment(rows));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void byLabel(Blackhole blackhole) throws SQLException {
+        rows.reset();
+        while (rows.next()) {
+            blackhole.consume(mapByLabel(rows));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void vehicleByIndex(Blackhole blackhole) throws SQLException {
+        vehicleRows.reset();
+        while (vehicleRows.next()) {
+            blackhole.consume(vehicleRepository.mapResultSetToVehicle(vehicleRows));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void warehouseByIndex(Blackhole blackhole) throws SQLException {
+        warehouseRows.reset();
+        while (warehouseRows.next()) {
+            blackhole.consume(warehouseRepository.mapResultSetToWarehouse(warehouseRows));
+        }
+    }
+
+    private Shipment mapByLabel(ResultSet rs) throws SQLException {
+        Shipment shipment = shipmentFactory.createShipment(rs.getString("shipment_type"));
+
+        shipment.setId(rs.getInt("id"));
+        shipment.setTrackingNumber(rs.getString("tracking_number"));
+        shipment.setSenderName(rs.getString("sender_name"));
+        shipment.setRecipientName(rs.getString("recipient_name"));
+        shipment.setOrigin(rs.getString("origin"));
+        shipment.setDestination(rs.getString("destination"));
+        shipment.setWeight(rs.getDouble("weight"));
+        shipment.setStatus(rs.getString("status"));
+        shipment.setPriority(rs.getString("priority"));
+
+        Date estimatedDelivery = rs.getDate("estimated_delivery");
+        if (estimatedDelivery != null) {
+            shipment.setEstimatedDelivery(estimatedDelivery.toLocalDate());
+        }
+
+        shipment.setVehicleId((Integer) rs.getObject("vehicle_id"));
+        shipment.setWarehouseId((Integer) rs.getObject("warehouse_id"));
+
+        if (shipment instanceof ExpressShipment) {
+            ((ExpressShipment) shipment).setFragile(rs.getBoolean("is_fragile"));
+        } else if (shipment instanceof StandardShipment) {
+            ((StandardShipment) shipment).setTemperatureControlled(rs.getBoolean("temperature_controlled"));
+        } else if (shipment instanceof EconomyShipment) {
+            ((EconomyShipment) shipment).setCustomsCleared(rs.getBoolean("customs_cleared"));
+        }
+
+        return shipment;
+    }
+}
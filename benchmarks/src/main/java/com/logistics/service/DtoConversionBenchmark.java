@@ -0,0 +1,63 @@
+package com.logistics.service;
+
+import com.logistics.dto.ShipmentDTO;
+import com.logistics.model.Shipment;
+import com.logistics.patterns.factory.ShipmentFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shipment to ShipmentDTO conversion, as done for every shipment an
+ * endpoint returns. Shipments of all three types are converted in turn so
+ * the type checks see a realistic mix. Scores are per shipment.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DtoConversionBenchmark {
+
+    private static final int SHIPMENTS = 1000;
+    private static final String[] TYPES = {"EXPRESS", "STANDARD", "ECONOMY"};
+
+    private Shipment[] shipments;
+
+    @Setup
+    public void setUp() {
+        ShipmentFactory factory = new ShipmentFactory();
+        shipments = new Shipment[SHIPMENTS];
+        for (int i = 0; i < SHIPMENTS; i++) {
+            Shipment shipment = factory.createShipmentWithAttributes(TYPES[i % TYPES.length], "TRK" + (100000 + i),
+                    "Sender " + i, "Recipient " + i, "Almaty", "Astana", 12.5 + i % 50, i % 2 == 0);
+            shipment.setId(i + 1);
+            shipment.setStatus("IN_TRANSIT");
+            shipment.setEstimatedDelivery(LocalDate.of(2024, 6, 1));
+            shipment.setVehicleId(i % 4 == 0 ? null : i % 20 + 1);
+            shipments[i] = shipment;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SHIPMENTS)
+    public void convertToDTO(Blackhole blackhole) {
+        for (Shipment shipment : shipments) {
+            ShipmentDTO dto = ShipmentService.convertToDTO(shipment);
+            blackhole.consume(dto);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.logistics.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One fastest-route query between random locations of a road-like network:
+ * a side x side grid of locations with two-way lanes of 1 to 10 hours
+ * between neighbours. hubs = 0 is plain Dijkstra; with hubs the search is
+ * A* over the hub distance tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteSearchBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"30", "100"})
+    public int side;
+
+    @Param({"0", "16"})
+    public int hubs;
+
+    private RouteGraph graph;
+    private int[] sources;
+    private int[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int laneCount = 4 * side * (side - 1);
+        int[] ids = new int[laneCount];
+        String[] origins = new String[laneCount];
+        String[] destinations = new String[laneCount];
+        double[] hours = new double[laneCount];
+        double[] costs = new double[laneCount];
+
+        int lane = 0;
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                if (x + 1 < side) {
+                    lane = addTwoWay(lane, x, y, x + 1, y, random, ids, origins, destinations, hours, costs);
+                }
+                if (y + 1 < side) {
+                    lane = addTwoWay(lane, x, y, x, y + 1, random, ids, origins, destinations, hours, costs);
+                }
+            }
+        }
+        graph = new RouteGraph(ids, origins, destinations, hours, costs, laneCount, hubs);
+
+        int locations = graph.getLocationCount();
+        sources = new int[QUERIES];
+        targets = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            sources[q] = random.nextInt(locations);
+            targets[q] = random.nextInt(locations);
+        }
+    }
+
+    private static int addTwoWay(int lane, int x1, int y1, int x2, int y2, SplittableRandom random, int[] ids,
+                                 String[] origins, String[] destinations, double[] hours, double[] costs) {
+        double transitHours = 1 + random.nextInt(10);
+        double costPerKg = transitHours * 0.05;
+        for (int direction = 0; direction < 2; direction++) {
+            ids[lane] = lane + 1;
+            origins[lane] = direction == 0 ? "L" + x1 + "-" + y1 : "L" + x2 + "-" + y2;
+            destinations[lane] = direction == 0 ? "L" + x2 + "-" + y2 : "L" + x1 + "-" + y1;
+            hours[lane] = transitHours;
+            costs[lane] = costPerKg;
+            lane++;
+        }
+        return lane;
+    }
+
+    @Benchmark
+    public Object fastestRoute() {
+        int q = next++ & (QUERIES - 1);
+        return graph.fastestRoute(sources[q], targets[q]);
+    }
+}
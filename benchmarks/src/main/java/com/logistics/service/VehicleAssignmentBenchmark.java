@@ -0,0 +1,73 @@
+package com.logistics.service;
+
+import com.logistics.repository.ShipmentLoads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full vehicle assignment plan, without the database round trips:
+ * shipments of 0.5 to 500 kg in all three types, and vehicles of all three
+ * types with 1 to 20 t of capacity, costed as the vehicle models do
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VehicleAssignmentBenchmark {
+
+    // Operating cost per unit of capacity of AirVehicle, SeaVehicle and LandVehicle
+    private static final double[] COST_RATES = {2.5, 1.2, 0.8};
+
+    @Param({"10000:500", "100000:5000"})
+    public String size;
+
+    private double[] weights;
+    private byte[] shipmentTypes;
+    private double[] capacities;
+    private byte[] vehicleTypes;
+    private double[] costs;
+
+    @Setup
+    public void setUp() {
+        String[] counts = size.split(":");
+        int shipments = Integer.parseInt(counts[0]);
+        int vehicles = Integer.parseInt(counts[1]);
+        SplittableRandom random = new SplittableRandom(42);
+
+        weights = new double[shipments];
+        shipmentTypes = new byte[shipments];
+        for (int i = 0; i < shipments; i++) {
+            weights[i] = Math.round(random.nextDouble(0.5, 500) * 100) / 100.0;
+            shipmentTypes[i] = (byte) random.nextInt(ShipmentLoads.ECONOMY + 1);
+        }
+
+        capacities = new double[vehicles];
+        vehicleTypes = new byte[vehicles];
+        costs = new double[vehicles];
+        for (int i = 0; i < vehicles; i++) {
+            capacities[i] = 1000 * (1 + random.nextInt(20));
+            vehicleTypes[i] = (byte) random.nextInt(3);
+            costs[i] = capacities[i] * COST_RATES[vehicleTypes[i]];
+        }
+    }
+
+    @Benchmark
+    public int[] plan() {
+        return new VehicleAssignmentPlanner(weights, shipmentTypes, weights.length,
+                capacities, vehicleTypes, costs, capacities.length).plan();
+    }
+}
@@ -0,0 +1,70 @@
+package com.logistics.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One vehicle's route plan without a deadline, so every stage runs to the
+ * end: stops at random points of a 1000 x 1000 square with travel times
+ * 0 to 30% slower than the straight line, one way or the other, the depot
+ * in the middle, loads of 1 to 20 on a vehicle of 200
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VehicleRoutePlannerBenchmark {
+
+    @Param({"100", "1000"})
+    public int stops;
+
+    private double[][] hours;
+    private int[] locations;
+    private double[] demands;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] x = new double[stops + 1];
+        double[] y = new double[stops + 1];
+        x[0] = 500;
+        y[0] = 500;
+        for (int i = 1; i <= stops; i++) {
+            x[i] = random.nextDouble(1000);
+            y[i] = random.nextDouble(1000);
+        }
+        hours = new double[stops + 1][stops + 1];
+        for (int i = 0; i <= stops; i++) {
+            for (int j = 0; j <= stops; j++) {
+                hours[i][j] = Math.hypot(x[i] - x[j], y[i] - y[j]) * (1 + 0.3 * random.nextDouble());
+            }
+        }
+
+        locations = new int[stops];
+        demands = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            locations[i] = i + 1;
+            demands[i] = 1 + random.nextInt(20);
+        }
+    }
+
+    @Benchmark
+    public List<int[]> plan() {
+        return new VehicleRoutePlanner(hours, 0, locations, demands, 200).plan(Long.MAX_VALUE);
+    }
+}
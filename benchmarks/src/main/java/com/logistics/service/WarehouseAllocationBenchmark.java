@@ -0,0 +1,85 @@
+package com.logistics.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One warehouse allocation plan, without the database round trips: 200
+ * warehouses in 20 cities, shipments from and to 40 cities, and enough
+ * demand to bring the warehouses to about two thirds full. parallelism is
+ * the size of the fork-join pool the regions are solved on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WarehouseAllocationBenchmark {
+
+    private static final int WAREHOUSES = 200;
+
+    @Param({"10000", "100000"})
+    public int shipments;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private int[] capacities;
+    private int[] loads;
+    private String[] locations;
+    private double[] weights;
+    private String[] origins;
+    private String[] destinations;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        capacities = new int[WAREHOUSES];
+        loads = new int[WAREHOUSES];
+        locations = new String[WAREHOUSES];
+        long totalCapacity = 0;
+        for (int w = 0; w < WAREHOUSES; w++) {
+            capacities[w] = 1000 * (1 + random.nextInt(50));
+            loads[w] = random.nextInt(capacities[w] / 2);
+            locations[w] = "City " + random.nextInt(20);
+            totalCapacity += capacities[w];
+        }
+
+        weights = new double[shipments];
+        origins = new String[shipments];
+        destinations = new String[shipments];
+        double maxWeight = totalCapacity * 0.7 / shipments;
+        for (int s = 0; s < shipments; s++) {
+            weights[s] = random.nextDouble(1, maxWeight);
+            origins[s] = "City " + random.nextInt(40);
+            destinations[s] = "City " + random.nextInt(40);
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] plan() {
+        return new WarehouseAllocationPlanner(capacities, loads, locations, weights, origins, destinations).plan(pool);
+    }
+}
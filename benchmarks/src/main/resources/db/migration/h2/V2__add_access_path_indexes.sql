@@ -0,0 +1,20 @@
+-- The PostgreSQL V2 indexes for the load test suite's H2 database. H2 has
+-- neither CONCURRENTLY nor partial indexes, so these are built over whole
+-- tables. The partial indexes are left out: over whole tables they would
+-- duplicate idx_shipments_estimated_delivery, idx_shipments_vehicle_id and
+-- the vehicles primary key.
+
+CREATE INDEX IF NOT EXISTS idx_shipments_status_id
+    ON shipments (status, id);
+
+CREATE INDEX IF NOT EXISTS idx_shipments_vehicle_id
+    ON shipments (vehicle_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_shipments_warehouse_id
+    ON shipments (warehouse_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_shipments_estimated_delivery
+    ON shipments (estimated_delivery, id);
+
+CREATE INDEX IF NOT EXISTS idx_shipments_weight
+    ON shipments (weight, id);
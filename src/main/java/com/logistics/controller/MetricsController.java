@@ -0,0 +1,49 @@
+package com.logistics.controller;
+
+import com.logistics.dto.SlowStatementResponse;
+import com.logistics.metrics.MetricsRegistry;
+import com.logistics.metrics.StatementProfiler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Exposes latency histograms in the Prometheus text format and the
+ * slowest SQL statements
+ */
+@RestController
+public class MetricsController {
+
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final MetricsRegistry metricsRegistry;
+    private final StatementProfiler statementProfiler;
+
+    @Autowired
+    public MetricsController(MetricsRegistry metricsRegistry, StatementProfiler statementProfiler) {
+        this.metricsRegistry = metricsRegistry;
+        this.statementProfiler = statementProfiler;
+    }
+
+    /**
+     * GET /metrics - Endpoint and repository latency percentiles
+     */
+    @GetMapping(value = "/metrics", produces = PROMETHEUS_TEXT)
+    public String metrics() {
+        return metricsRegistry.scrape();
+    }
+
+    /**
+     * GET /metrics/slow-statements?limit= - Statements with the slowest executions
+     */
+    @GetMapping("/metrics/slow-statements")
+    public ResponseEntity<List<SlowStatementResponse>> getSlowStatements(
+            @RequestParam(required = false) Integer limit) {
+        List<SlowStatementResponse> statements = statementProfiler.getSlowestStatements(limit);
+        return ResponseEntity.ok(statements);
+    }
+}
@@ -0,0 +1,80 @@
+package com.logistics.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.logistics.dto.ShipmentDTO;
+import com.logistics.service.ReactiveShipmentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller for non-blocking shipment reads
+ *
+ * Handlers return as soon as the query is issued and the request thread is
+ * released until the result arrives. Streams are written as
+ * newline-delimited JSON, one shipment per line, and rows are only fetched
+ * from the database as fast as the client reads them.
+ */
+@RestController
+@RequestMapping("/api/reactive/shipments")
+public class ReactiveShipmentController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ReactiveShipmentService shipmentService;
+    private final ObjectWriter lineWriter;
+
+    @Autowired
+    public ReactiveShipmentController(ReactiveShipmentService shipmentService, ObjectMapper objectMapper) {
+        this.shipmentService = shipmentService;
+        // NDJSON needs one document per line, so never pretty-print stream elements
+        this.lineWriter = objectMapper.writerFor(ShipmentDTO.class)
+                .without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * GET /api/reactive/shipments - Stream all shipments as newline-delimited JSON
+     */
+    @GetMapping(produces = NDJSON)
+    public Flux<String> streamAllShipments() {
+        return shipmentService.streamAllShipments().map(this::toLine);
+    }
+
+    /**
+     * GET /api/reactive/shipments/{id} - Get shipment by ID
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ShipmentDTO>> getShipmentById(@PathVariable Integer id) {
+        return shipmentService.getShipmentById(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * GET /api/reactive/shipments/tracking/{trackingNumber} - Get shipment by tracking number
+     */
+    @GetMapping("/tracking/{trackingNumber}")
+    public Mono<ResponseEntity<ShipmentDTO>> getShipmentByTrackingNumber(@PathVariable String trackingNumber) {
+        return shipmentService.getShipmentByTrackingNumber(trackingNumber).map(ResponseEntity::ok);
+    }
+
+    /**
+     * GET /api/reactive/shipments/status/{status} - Stream shipments by status as newline-delimited JSON
+     */
+    @GetMapping(value = "/status/{status}", produces = NDJSON)
+    public Flux<String> streamShipmentsByStatus(@PathVariable String status) {
+        return shipmentService.streamShipmentsByStatus(status).map(this::toLine);
+    }
+
+    private String toLine(ShipmentDTO dto) {
+        try {
+            return lineWriter.writeValueAsString(dto) + "\n";
+        } catch (JsonProcessingException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.logistics.controller;
+
+import com.logistics.dto.LaneDTO;
+import com.logistics.dto.RouteResponse;
+import com.logistics.service.RouteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/routes")
+public class RouteController {
+
+    private final RouteService routeService;
+
+    @Autowired
+    public RouteController(RouteService routeService) {
+        this.routeService = routeService;
+    }
+
+    @GetMapping
+    public ResponseEntity<RouteResponse> findRoute(@RequestParam String from, @RequestParam String to) {
+        return ResponseEntity.ok(routeService.findRoute(from, to));
+    }
+
+    @GetMapping("/shipments/{id}")
+    public ResponseEntity<RouteResponse> findShipmentRoute(@PathVariable Integer id) {
+        return ResponseEntity.ok(routeService.findShipmentRoute(id));
+    }
+
+    @GetMapping("/lanes")
+    public ResponseEntity<List<LaneDTO>> getAllLanes() {
+        return ResponseEntity.ok(routeService.getAllLanes());
+    }
+
+    @PostMapping("/lanes")
+    public ResponseEntity<LaneDTO> createLane(@RequestBody LaneDTO laneDTO) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(routeService.createLane(laneDTO));
+    }
+
+    @DeleteMapping("/lanes/{id}")
+    public ResponseEntity<Void> deleteLane(@PathVariable Integer id) {
+        routeService.deleteLane(id);
+        return ResponseEntity.noContent().build();
+    }
+}
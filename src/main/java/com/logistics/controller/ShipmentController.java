@@ -1,12 +1,27 @@
 package com.logistics.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.logistics.dto.BatchResponse;
+import com.logistics.dto.CacheStatsResponse;
+import com.logistics.dto.PageResponse;
+import com.logistics.dto.ImportResponse;
 import com.logistics.dto.ShipmentDTO;
+import com.logistics.dto.ShipmentSearchRequest;
+import com.logistics.dto.ShipmentStatsResponse;
 import com.logistics.service.ShipmentService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -17,20 +32,74 @@ import java.util.List;
 @RequestMapping("/api/shipments")
 public class ShipmentController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     private final ShipmentService shipmentService;
+    private final ObjectWriter exportWriter;
 
     @Autowired
-    public ShipmentController(ShipmentService shipmentService) {
+    public ShipmentController(ShipmentService shipmentService, ObjectMapper objectMapper) {
         this.shipmentService = shipmentService;
+        // NDJSON needs one document per line, so never pretty-print the export;
+        // flushing is batched in exportShipments rather than done per row
+        this.exportWriter = objectMapper.writerFor(ShipmentDTO.class)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     /**
-     * GET /api/shipments - Get all shipments
+     * GET /api/shipments?cursor=&limit= - Get one page of shipments
      */
     @GetMapping
-    public ResponseEntity<List<ShipmentDTO>> getAllShipments() {
-        List<ShipmentDTO> shipments = shipmentService.getAllShipments();
-        return ResponseEntity.ok(shipments);
+    public ResponseEntity<PageResponse<ShipmentDTO>> getAllShipments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<ShipmentDTO> page = shipmentService.getAllShipments(cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/shipments/search?status=&priority=&type=&origin=&destination=&vehicleId=&warehouseId=
+     * &deliveryFrom=&deliveryTo=&minWeight=&maxWeight=&sort=&direction=&cursor=&limit=
+     * - Get one page of shipments matching all given filters
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<ShipmentDTO>> searchShipments(
+            ShipmentSearchRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<ShipmentDTO> page = shipmentService.searchShipments(request, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/shipments/export - Stream all shipments as newline-delimited JSON
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportShipments(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        try (JsonGenerator generator = exportWriter.createGenerator(response.getOutputStream())) {
+            long[] written = {0};
+            try {
+                shipmentService.exportShipments(dto -> {
+                    try {
+                        exportWriter.writeValue(generator, dto);
+                        generator.writeRaw('\n');
+                        // Flush the first row right away so clients see data immediately
+                        if (++written[0] == 1 || written[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
     }
 
     /**
@@ -52,12 +121,31 @@ public class ShipmentController {
     }
 
     /**
-     * GET /api/shipments/status/{status} - Get shipments by status
+     * GET /api/shipments/status/{status}?cursor=&limit= - Get one page of shipments by status
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ShipmentDTO>> getShipmentsByStatus(@PathVariable String status) {
-        List<ShipmentDTO> shipments = shipmentService.getShipmentsByStatus(status);
-        return ResponseEntity.ok(shipments);
+    public ResponseEntity<PageResponse<ShipmentDTO>> getShipmentsByStatus(
+            @PathVariable String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        PageResponse<ShipmentDTO> page = shipmentService.getShipmentsByStatus(status, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/shipments/stats - Get shipment counts and weight totals
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ShipmentStatsResponse> getShipmentStats() {
+        return ResponseEntity.ok(shipmentService.getShipmentStats());
+    }
+
+    /**
+     * GET /api/shipments/cache/stats - Hit, miss and eviction counters of the lookup cache
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(shipmentService.getCacheStats());
     }
 
     /**
@@ -69,6 +157,25 @@ public class ShipmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * POST /api/shipments/batch - Create many shipments in one request
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createShipments(@RequestBody List<ShipmentDTO> shipmentDTOs) {
+        BatchResponse result = shipmentService.createShipments(shipmentDTOs);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * POST /api/shipments/import - Bulk load a CSV or NDJSON upload via PostgreSQL COPY
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importShipments(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(shipmentService.importShipments(body, contentType));
+    }
+
     /**
      * PUT /api/shipments/{id} - Update shipment
      */
@@ -1,12 +1,19 @@
 package com.logistics.controller;
 
+import com.logistics.dto.ImportResponse;
+import com.logistics.dto.VehicleAssignmentResponse;
 import com.logistics.dto.VehicleDTO;
+import com.logistics.dto.VehicleRoutePlanResponse;
+import com.logistics.service.VehicleAssignmentService;
+import com.logistics.service.VehicleRoutingService;
 import com.logistics.service.VehicleService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,10 +21,15 @@ import java.util.List;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final VehicleAssignmentService assignmentService;
+    private final VehicleRoutingService routingService;
 
     @Autowired
-    public VehicleController(VehicleService vehicleService) {
+    public VehicleController(VehicleService vehicleService, VehicleAssignmentService assignmentService,
+                             VehicleRoutingService routingService) {
         this.vehicleService = vehicleService;
+        this.assignmentService = assignmentService;
+        this.routingService = routingService;
     }
 
     @GetMapping
@@ -35,6 +47,26 @@ public class VehicleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(vehicleService.createVehicle(vehicleDTO));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importVehicles(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(vehicleService.importVehicles(body, contentType));
+    }
+
+    @PostMapping("/assignments")
+    public ResponseEntity<VehicleAssignmentResponse> assignVehicles() {
+        return ResponseEntity.ok(assignmentService.assignPendingShipments());
+    }
+
+    @GetMapping("/routes")
+    public ResponseEntity<VehicleRoutePlanResponse> planRoutes(
+            @RequestParam(required = false) List<Integer> vehicleIds,
+            @RequestParam(required = false) Integer budgetMs,
+            @RequestParam(required = false) String depot) {
+        return ResponseEntity.ok(routingService.planRoutes(vehicleIds, budgetMs, depot));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<VehicleDTO> updateVehicle(@PathVariable Integer id, @RequestBody VehicleDTO vehicleDTO) {
         return ResponseEntity.ok(vehicleService.updateVehicle(id, vehicleDTO));
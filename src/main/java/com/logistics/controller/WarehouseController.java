@@ -1,12 +1,19 @@
 package com.logistics.controller;
 
+import com.logistics.dto.ImportResponse;
+import com.logistics.dto.WarehouseAllocationResponse;
 import com.logistics.dto.WarehouseDTO;
+import com.logistics.dto.WarehouseReservationRequest;
+import com.logistics.dto.WarehouseReservationResponse;
+import com.logistics.service.WarehouseAllocationService;
 import com.logistics.service.WarehouseService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,10 +21,12 @@ import java.util.List;
 public class WarehouseController {
 
     private final WarehouseService warehouseService;
+    private final WarehouseAllocationService allocationService;
 
     @Autowired
-    public WarehouseController(WarehouseService warehouseService) {
+    public WarehouseController(WarehouseService warehouseService, WarehouseAllocationService allocationService) {
         this.warehouseService = warehouseService;
+        this.allocationService = allocationService;
     }
 
     @GetMapping
@@ -35,6 +44,31 @@ public class WarehouseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(warehouseService.createWarehouse(warehouseDTO));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResponse> importWarehouses(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(warehouseService.importWarehouses(body, contentType));
+    }
+
+    @PostMapping("/allocations")
+    public ResponseEntity<WarehouseAllocationResponse> allocateShipments(
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(allocationService.allocatePendingShipments(!dryRun));
+    }
+
+    @PostMapping("/{id}/reserve")
+    public ResponseEntity<WarehouseReservationResponse> reserveLoad(
+            @PathVariable Integer id, @RequestBody WarehouseReservationRequest request) {
+        return ResponseEntity.ok(warehouseService.reserveLoad(id, request));
+    }
+
+    @PostMapping("/{id}/release")
+    public ResponseEntity<WarehouseReservationResponse> releaseLoad(
+            @PathVariable Integer id, @RequestBody WarehouseReservationRequest request) {
+        return ResponseEntity.ok(warehouseService.releaseLoad(id, request));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<WarehouseDTO> updateWarehouse(@PathVariable Integer id, @RequestBody WarehouseDTO warehouseDTO) {
         return ResponseEntity.ok(warehouseService.updateWarehouse(id, warehouseDTO));
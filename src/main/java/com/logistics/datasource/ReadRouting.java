@@ -0,0 +1,51 @@
+package com.logistics.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Whether connections requested on the current thread may come from a replica
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get() != null;
+    }
+
+    /**
+     * Runs work with connections from the primary, even inside a call that may read from a replica
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean previous = enter(false);
+        try {
+            return work.get();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    /**
+     * Returns the enclosing state, to be handed back to {@link #exit}
+     */
+    static boolean enter(boolean replicaRead) {
+        boolean previous = isReplicaRead();
+        set(replicaRead);
+        return previous;
+    }
+
+    static void exit(boolean previous) {
+        set(previous);
+    }
+
+    private static void set(boolean replicaRead) {
+        if (replicaRead) {
+            REPLICA_READ.set(Boolean.TRUE);
+        } else {
+            REPLICA_READ.remove();
+        }
+    }
+}
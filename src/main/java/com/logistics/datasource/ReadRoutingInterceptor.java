@@ -0,0 +1,51 @@
+package com.logistics.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Sends @ReadOnlyQuery repository calls made while serving a GET or HEAD
+ * request to a replica, unless that request has already written
+ *
+ * Any other repository call marks the request as having written, so it
+ * reads its own writes from the primary for the rest of the request.
+ * Work outside a request (imports, background rebuilds) always uses the primary.
+ */
+class ReadRoutingInterceptor implements MethodInterceptor {
+
+    private static final String WROTE_ATTRIBUTE = ReadRoutingInterceptor.class.getName() + ".wrote";
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        boolean readOnly = invocation.getMethod().isAnnotationPresent(ReadOnlyQuery.class);
+        if (!readOnly && request != null) {
+            request.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        boolean replicaRead = readOnly && isSafeRequest(request)
+                && request.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null;
+
+        boolean previous = ReadRouting.enter(replicaRead);
+        try {
+            return invocation.proceed();
+        } finally {
+            ReadRouting.exit(previous);
+        }
+    }
+
+    private static boolean isSafeRequest(RequestAttributes request) {
+        if (!(request instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        String method = ((ServletRequestAttributes) request).getRequest().getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+}
@@ -0,0 +1,102 @@
+package com.logistics.datasource;
+
+import com.logistics.patterns.singleton.LoggingService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only repository calls to the replicas listed in
+ * logistics.datasource.replica-urls
+ *
+ * Each replica gets its own pool with the primary's settings and
+ * credentials. With no replicas configured the primary DataSource is left
+ * as it is and every call goes to it.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReplicaDataSourceConfig {
+
+    static final String REPLICA_URLS = "logistics.datasource.replica-urls";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor readRoutingAdvisor() {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Repository.class, true),
+                new ReadRoutingInterceptor());
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static BeanPostProcessor replicaRoutingPostProcessor(Environment environment) {
+        return new ReplicaRoutingPostProcessor(
+                StringUtils.commaDelimitedListToStringArray(environment.getProperty(REPLICA_URLS, "")));
+    }
+
+    /**
+     * Ordered so it wraps the pool before the metrics wrapper does, keeping
+     * per-method timings on top of whichever pool served the connection.
+     * Replica pools are not beans, so they are closed along with this one.
+     */
+    private static final class ReplicaRoutingPostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+        private final String[] urls;
+        private final List<HikariDataSource> created = new ArrayList<>();
+
+        ReplicaRoutingPostProcessor(String[] urls) {
+            this.urls = urls;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (urls.length == 0 || !(bean instanceof HikariDataSource)) {
+                return bean;
+            }
+            HikariDataSource primary = (HikariDataSource) bean;
+            List<DataSource> replicas = new ArrayList<>(urls.length);
+            for (int i = 0; i < urls.length; i++) {
+                HikariDataSource replica = createReplica(primary, urls[i].trim(), i + 1);
+                created.add(replica);
+                replicas.add(replica);
+            }
+            LoggingService.getInstance().info("Routing read-only queries to {} replica(s)", replicas.size());
+            return new ReplicaRoutingDataSource(primary, replicas);
+        }
+
+        @Override
+        public void destroy() {
+            created.forEach(HikariDataSource::close);
+        }
+
+        private static HikariDataSource createReplica(HikariDataSource primary, String url, int number) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setJdbcUrl(url);
+            config.setPoolName((primary.getPoolName() != null ? primary.getPoolName() : "pool") + "-replica-" + number);
+            config.setReadOnly(true);
+            // Start even if the replica is down; reads fall back to the primary meanwhile
+            config.setInitializationFailTimeout(-1);
+            return new HikariDataSource(config);
+        }
+    }
+}
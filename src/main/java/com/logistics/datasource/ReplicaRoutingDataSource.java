@@ -0,0 +1,69 @@
+package com.logistics.datasource;
+
+import com.logistics.patterns.singleton.LoggingService;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections, round-robin, when {@link ReadRouting} allows
+ * it and primary connections otherwise
+ *
+ * A replica that cannot provide a connection is skipped in favour of the
+ * primary, so losing a replica degrades to primary reads rather than errors.
+ * unwrap reaches the primary pool.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LoggingService loggingService;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.loggingService = LoggingService.getInstance();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReadRouting.isReplicaRead() || replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+        int index = Math.floorMod(next.getAndIncrement(), replicas.size());
+        try {
+            return replicas.get(index).getConnection();
+        } catch (SQLException e) {
+            loggingService.warn("Replica {} unavailable, reading from the primary: {}", index + 1, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        return primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+}
@@ -0,0 +1,65 @@
+package com.logistics.dto;
+
+/**
+ * Outcome of a single item in a batch request
+ * result is one of CREATED, DUPLICATE, INVALID or FAILED
+ */
+public class BatchItemResult {
+    private int index;
+    private String trackingNumber;
+    private String result;
+    private Integer id;
+    private String message;
+
+    public BatchItemResult() {
+    }
+
+    public BatchItemResult(int index, String trackingNumber, String result, Integer id, String message) {
+        this.index = index;
+        this.trackingNumber = trackingNumber;
+        this.result = result;
+        this.id = id;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getTrackingNumber() {
+        return trackingNumber;
+    }
+
+    public void setTrackingNumber(String trackingNumber) {
+        this.trackingNumber = trackingNumber;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,75 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a batch request with one result per submitted item
+ */
+public class BatchResponse {
+    private int received;
+    private int created;
+    private int duplicates;
+    private int rejected;
+    private List<BatchItemResult> items;
+
+    public BatchResponse() {
+    }
+
+    public BatchResponse(List<BatchItemResult> items) {
+        this.items = items;
+        this.received = items.size();
+        for (BatchItemResult item : items) {
+            switch (item.getResult()) {
+                case "CREATED":
+                    created++;
+                    break;
+                case "DUPLICATE":
+                    duplicates++;
+                    break;
+                default:
+                    rejected++;
+            }
+        }
+    }
+
+    // Getters and Setters
+    public int getReceived() {
+        return received;
+    }
+
+    public void setReceived(int received) {
+        this.received = received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<BatchItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BatchItemResult> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,66 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk import
+ * received = inserted + skipped (duplicate key or unknown reference) + rejected (invalid record);
+ * rejections lists only the first few rejected records
+ */
+public class ImportResponse {
+    private String entity;
+    private long received;
+    private long inserted;
+    private long skipped;
+    private long rejected;
+    private List<RejectedRow> rejections;
+
+    // Getters and Setters
+    public String getEntity() {
+        return entity;
+    }
+
+    public void setEntity(String entity) {
+        this.entity = entity;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public void setReceived(long received) {
+        this.received = received;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<RejectedRow> getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(List<RejectedRow> rejections) {
+        this.rejections = rejections;
+    }
+}
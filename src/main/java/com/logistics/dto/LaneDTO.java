@@ -0,0 +1,53 @@
+package com.logistics.dto;
+
+/**
+ * Data Transfer Object for Lane
+ */
+public class LaneDTO {
+    private Integer id;
+    private String origin;
+    private String destination;
+    private Double transitHours;
+    private Double costPerKg;
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public Double getTransitHours() {
+        return transitHours;
+    }
+
+    public void setTransitHours(Double transitHours) {
+        this.transitHours = transitHours;
+    }
+
+    public Double getCostPerKg() {
+        return costPerKg;
+    }
+
+    public void setCostPerKg(Double costPerKg) {
+        this.costPerKg = costPerKg;
+    }
+}
@@ -0,0 +1,47 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated listing
+ * nextCursor is null when there are no more rows
+ */
+public class PageResponse<T> {
+    private List<T> items;
+    private int limit;
+    private String nextCursor;
+
+    public PageResponse() {
+    }
+
+    public PageResponse(List<T> items, int limit, String nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
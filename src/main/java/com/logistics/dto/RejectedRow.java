@@ -0,0 +1,34 @@
+package com.logistics.dto;
+
+/**
+ * A bulk import record that could not be parsed or validated
+ */
+public class RejectedRow {
+    private long line;
+    private String message;
+
+    public RejectedRow() {
+    }
+
+    public RejectedRow(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,123 @@
+package com.logistics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Fastest route between two locations over the lanes
+ * transitHours and costPerKg are the sums over the lanes; transitDays rounds
+ * transitHours up to whole days and estimatedDelivery counts them from today.
+ * shipmentId, weight and laneCost (costPerKg x weight) are only set for the
+ * route of a shipment.
+ */
+public class RouteResponse {
+    private String origin;
+    private String destination;
+    private double transitHours;
+    private int transitDays;
+    private LocalDate estimatedDelivery;
+    private double costPerKg;
+    private Integer shipmentId;
+    private Double weight;
+    private Double laneCost;
+    private int settledLocations;
+    private long searchMicros;
+    private List<LaneDTO> lanes;
+
+    // Getters and Setters
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public double getTransitHours() {
+        return transitHours;
+    }
+
+    public void setTransitHours(double transitHours) {
+        this.transitHours = transitHours;
+    }
+
+    public int getTransitDays() {
+        return transitDays;
+    }
+
+    public void setTransitDays(int transitDays) {
+        this.transitDays = transitDays;
+    }
+
+    public LocalDate getEstimatedDelivery() {
+        return estimatedDelivery;
+    }
+
+    public void setEstimatedDelivery(LocalDate estimatedDelivery) {
+        this.estimatedDelivery = estimatedDelivery;
+    }
+
+    public double getCostPerKg() {
+        return costPerKg;
+    }
+
+    public void setCostPerKg(double costPerKg) {
+        this.costPerKg = costPerKg;
+    }
+
+    public Integer getShipmentId() {
+        return shipmentId;
+    }
+
+    public void setShipmentId(Integer shipmentId) {
+        this.shipmentId = shipmentId;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Double getLaneCost() {
+        return laneCost;
+    }
+
+    public void setLaneCost(Double laneCost) {
+        this.laneCost = laneCost;
+    }
+
+    public int getSettledLocations() {
+        return settledLocations;
+    }
+
+    public void setSettledLocations(int settledLocations) {
+        this.settledLocations = settledLocations;
+    }
+
+    public long getSearchMicros() {
+        return searchMicros;
+    }
+
+    public void setSearchMicros(long searchMicros) {
+        this.searchMicros = searchMicros;
+    }
+
+    public List<LaneDTO> getLanes() {
+        return lanes;
+    }
+
+    public void setLanes(List<LaneDTO> lanes) {
+        this.lanes = lanes;
+    }
+}
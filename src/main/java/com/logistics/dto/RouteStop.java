@@ -0,0 +1,47 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * One stop of a trip: the shipments delivered at a location
+ * arrivalHours is the travel time from the depot to this stop
+ */
+public class RouteStop {
+    private String location;
+    private double arrivalHours;
+    private double load;
+    private List<Integer> shipmentIds;
+
+    // Getters and Setters
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public double getArrivalHours() {
+        return arrivalHours;
+    }
+
+    public void setArrivalHours(double arrivalHours) {
+        this.arrivalHours = arrivalHours;
+    }
+
+    public double getLoad() {
+        return load;
+    }
+
+    public void setLoad(double load) {
+        this.load = load;
+    }
+
+    public List<Integer> getShipmentIds() {
+        return shipmentIds;
+    }
+
+    public void setShipmentIds(List<Integer> shipmentIds) {
+        this.shipmentIds = shipmentIds;
+    }
+}
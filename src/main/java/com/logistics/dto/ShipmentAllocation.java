@@ -0,0 +1,34 @@
+package com.logistics.dto;
+
+/**
+ * Warehouse an allocation plan places one shipment in
+ */
+public class ShipmentAllocation {
+    private int shipmentId;
+    private int warehouseId;
+
+    public ShipmentAllocation() {
+    }
+
+    public ShipmentAllocation(int shipmentId, int warehouseId) {
+        this.shipmentId = shipmentId;
+        this.warehouseId = warehouseId;
+    }
+
+    // Getters and Setters
+    public int getShipmentId() {
+        return shipmentId;
+    }
+
+    public void setShipmentId(int shipmentId) {
+        this.shipmentId = shipmentId;
+    }
+
+    public int getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(int warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+}
@@ -0,0 +1,75 @@
+package com.logistics.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Shipment counts by status, type and priority and total weight per
+ * warehouse and vehicle, as of the last write
+ */
+public class ShipmentStatsResponse {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byType;
+    private Map<String, Long> byPriority;
+    private Map<Integer, Double> weightByWarehouse;
+    private Map<Integer, Double> weightByVehicle;
+    private Instant reconciledAt;
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<String, Long> getByType() {
+        return byType;
+    }
+
+    public void setByType(Map<String, Long> byType) {
+        this.byType = byType;
+    }
+
+    public Map<String, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<String, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public Map<Integer, Double> getWeightByWarehouse() {
+        return weightByWarehouse;
+    }
+
+    public void setWeightByWarehouse(Map<Integer, Double> weightByWarehouse) {
+        this.weightByWarehouse = weightByWarehouse;
+    }
+
+    public Map<Integer, Double> getWeightByVehicle() {
+        return weightByVehicle;
+    }
+
+    public void setWeightByVehicle(Map<Integer, Double> weightByVehicle) {
+        this.weightByVehicle = weightByVehicle;
+    }
+
+    public Instant getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(Instant reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,119 @@
+package com.logistics.dto;
+
+import java.time.Instant;
+
+/**
+ * Timings of one SQL statement, split into connection acquisition,
+ * execution and row mapping, with the bind-parameter shape of its slowest run
+ */
+public class SlowStatementResponse {
+    private String sql;
+    private String source;
+    private long executions;
+    private long slowExecutions;
+    private double meanMillis;
+    private double p95Millis;
+    private double maxMillis;
+    private double meanAcquireMillis;
+    private double meanExecuteMillis;
+    private double meanMappingMillis;
+    private String slowestParameters;
+    private Instant slowestAt;
+
+    // Getters and Setters
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getSlowExecutions() {
+        return slowExecutions;
+    }
+
+    public void setSlowExecutions(long slowExecutions) {
+        this.slowExecutions = slowExecutions;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public void setMeanMillis(double meanMillis) {
+        this.meanMillis = meanMillis;
+    }
+
+    public double getP95Millis() {
+        return p95Millis;
+    }
+
+    public void setP95Millis(double p95Millis) {
+        this.p95Millis = p95Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    public double getMeanAcquireMillis() {
+        return meanAcquireMillis;
+    }
+
+    public void setMeanAcquireMillis(double meanAcquireMillis) {
+        this.meanAcquireMillis = meanAcquireMillis;
+    }
+
+    public double getMeanExecuteMillis() {
+        return meanExecuteMillis;
+    }
+
+    public void setMeanExecuteMillis(double meanExecuteMillis) {
+        this.meanExecuteMillis = meanExecuteMillis;
+    }
+
+    public double getMeanMappingMillis() {
+        return meanMappingMillis;
+    }
+
+    public void setMeanMappingMillis(double meanMappingMillis) {
+        this.meanMappingMillis = meanMappingMillis;
+    }
+
+    public String getSlowestParameters() {
+        return slowestParameters;
+    }
+
+    public void setSlowestParameters(String slowestParameters) {
+        this.slowestParameters = slowestParameters;
+    }
+
+    public Instant getSlowestAt() {
+        return slowestAt;
+    }
+
+    public void setSlowestAt(Instant slowestAt) {
+        this.slowestAt = slowestAt;
+    }
+}
@@ -0,0 +1,82 @@
+package com.logistics.dto;
+
+/**
+ * Result of assigning vehicles to pending shipments
+ * pendingShipments = assignedShipments + unassignedShipments; updatedShipments
+ * counts the shipments whose vehicle changed
+ */
+public class VehicleAssignmentResponse {
+    private int pendingShipments;
+    private int availableVehicles;
+    private int assignedShipments;
+    private int unassignedShipments;
+    private int vehiclesUsed;
+    private double totalOperatingCost;
+    private int updatedShipments;
+    private long planningMillis;
+
+    // Getters and Setters
+    public int getPendingShipments() {
+        return pendingShipments;
+    }
+
+    public void setPendingShipments(int pendingShipments) {
+        this.pendingShipments = pendingShipments;
+    }
+
+    public int getAvailableVehicles() {
+        return availableVehicles;
+    }
+
+    public void setAvailableVehicles(int availableVehicles) {
+        this.availableVehicles = availableVehicles;
+    }
+
+    public int getAssignedShipments() {
+        return assignedShipments;
+    }
+
+    public void setAssignedShipments(int assignedShipments) {
+        this.assignedShipments = assignedShipments;
+    }
+
+    public int getUnassignedShipments() {
+        return unassignedShipments;
+    }
+
+    public void setUnassignedShipments(int unassignedShipments) {
+        this.unassignedShipments = unassignedShipments;
+    }
+
+    public int getVehiclesUsed() {
+        return vehiclesUsed;
+    }
+
+    public void setVehiclesUsed(int vehiclesUsed) {
+        this.vehiclesUsed = vehiclesUsed;
+    }
+
+    public double getTotalOperatingCost() {
+        return totalOperatingCost;
+    }
+
+    public void setTotalOperatingCost(double totalOperatingCost) {
+        this.totalOperatingCost = totalOperatingCost;
+    }
+
+    public int getUpdatedShipments() {
+        return updatedShipments;
+    }
+
+    public void setUpdatedShipments(int updatedShipments) {
+        this.updatedShipments = updatedShipments;
+    }
+
+    public long getPlanningMillis() {
+        return planningMillis;
+    }
+
+    public void setPlanningMillis(long planningMillis) {
+        this.planningMillis = planningMillis;
+    }
+}
@@ -0,0 +1,103 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Planned trips of one vehicle
+ * firstFitHours is the travel time of the stops in shipment order, the baseline
+ * the heuristics start from; unroutedShipmentIds lists shipments that are too
+ * heavy for the vehicle or whose destination cannot be reached from the depot and back
+ */
+public class VehicleRoutePlan {
+    private int vehicleId;
+    private String name;
+    private double capacity;
+    private String depot;
+    private int shipments;
+    private double totalHours;
+    private double firstFitHours;
+    private boolean deadlineReached;
+    private List<VehicleTrip> trips;
+    private List<Integer> unroutedShipmentIds;
+
+    // Getters and Setters
+    public int getVehicleId() {
+        return vehicleId;
+    }
+
+    public void setVehicleId(int vehicleId) {
+        this.vehicleId = vehicleId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public double getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(double capacity) {
+        this.capacity = capacity;
+    }
+
+    public String getDepot() {
+        return depot;
+    }
+
+    public void setDepot(String depot) {
+        this.depot = depot;
+    }
+
+    public int getShipments() {
+        return shipments;
+    }
+
+    public void setShipments(int shipments) {
+        this.shipments = shipments;
+    }
+
+    public double getTotalHours() {
+        return totalHours;
+    }
+
+    public void setTotalHours(double totalHours) {
+        this.totalHours = totalHours;
+    }
+
+    public double getFirstFitHours() {
+        return firstFitHours;
+    }
+
+    public void setFirstFitHours(double firstFitHours) {
+        this.firstFitHours = firstFitHours;
+    }
+
+    public boolean isDeadlineReached() {
+        return deadlineReached;
+    }
+
+    public void setDeadlineReached(boolean deadlineReached) {
+        this.deadlineReached = deadlineReached;
+    }
+
+    public List<VehicleTrip> getTrips() {
+        return trips;
+    }
+
+    public void setTrips(List<VehicleTrip> trips) {
+        this.trips = trips;
+    }
+
+    public List<Integer> getUnroutedShipmentIds() {
+        return unroutedShipmentIds;
+    }
+
+    public void setUnroutedShipmentIds(List<Integer> unroutedShipmentIds) {
+        this.unroutedShipmentIds = unroutedShipmentIds;
+    }
+}
@@ -0,0 +1,93 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Delivery routes planned for land vehicles
+ * shipments = routedShipments + unroutedShipments; deadlineReached is set when
+ * the time budget cut any vehicle's plan short, which then is the best found so far
+ */
+public class VehicleRoutePlanResponse {
+    private int vehicles;
+    private int shipments;
+    private int routedShipments;
+    private int unroutedShipments;
+    private double totalHours;
+    private long budgetMillis;
+    private long planningMillis;
+    private boolean deadlineReached;
+    private List<VehicleRoutePlan> routes;
+
+    // Getters and Setters
+    public int getVehicles() {
+        return vehicles;
+    }
+
+    public void setVehicles(int vehicles) {
+        this.vehicles = vehicles;
+    }
+
+    public int getShipments() {
+        return shipments;
+    }
+
+    public void setShipments(int shipments) {
+        this.shipments = shipments;
+    }
+
+    public int getRoutedShipments() {
+        return routedShipments;
+    }
+
+    public void setRoutedShipments(int routedShipments) {
+        this.routedShipments = routedShipments;
+    }
+
+    public int getUnroutedShipments() {
+        return unroutedShipments;
+    }
+
+    public void setUnroutedShipments(int unroutedShipments) {
+        this.unroutedShipments = unroutedShipments;
+    }
+
+    public double getTotalHours() {
+        return totalHours;
+    }
+
+    public void setTotalHours(double totalHours) {
+        this.totalHours = totalHours;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    public void setBudgetMillis(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    public long getPlanningMillis() {
+        return planningMillis;
+    }
+
+    public void setPlanningMillis(long planningMillis) {
+        this.planningMillis = planningMillis;
+    }
+
+    public boolean isDeadlineReached() {
+        return deadlineReached;
+    }
+
+    public void setDeadlineReached(boolean deadlineReached) {
+        this.deadlineReached = deadlineReached;
+    }
+
+    public List<VehicleRoutePlan> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<VehicleRoutePlan> routes) {
+        this.routes = routes;
+    }
+}
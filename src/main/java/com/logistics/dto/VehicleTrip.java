@@ -0,0 +1,38 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * One trip of a vehicle, out from its depot, through its stops and back
+ * hours includes the way back to the depot
+ */
+public class VehicleTrip {
+    private double load;
+    private double hours;
+    private List<RouteStop> stops;
+
+    // Getters and Setters
+    public double getLoad() {
+        return load;
+    }
+
+    public void setLoad(double load) {
+        this.load = load;
+    }
+
+    public double getHours() {
+        return hours;
+    }
+
+    public void setHours(double hours) {
+        this.hours = hours;
+    }
+
+    public List<RouteStop> getStops() {
+        return stops;
+    }
+
+    public void setStops(List<RouteStop> stops) {
+        this.stops = stops;
+    }
+}
@@ -0,0 +1,81 @@
+package com.logistics.dto;
+
+/**
+ * Load an allocation plan adds to one warehouse
+ * utilizationPercentage is the utilization once the plan is applied
+ */
+public class WarehouseAllocation {
+    private Integer warehouseId;
+    private String name;
+    private String location;
+    private int capacity;
+    private int currentLoad;
+    private int allocatedLoad;
+    private int allocatedShipments;
+    private double utilizationPercentage;
+
+    // Getters and Setters
+    public Integer getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Integer warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getCurrentLoad() {
+        return currentLoad;
+    }
+
+    public void setCurrentLoad(int currentLoad) {
+        this.currentLoad = currentLoad;
+    }
+
+    public int getAllocatedLoad() {
+        return allocatedLoad;
+    }
+
+    public void setAllocatedLoad(int allocatedLoad) {
+        this.allocatedLoad = allocatedLoad;
+    }
+
+    public int getAllocatedShipments() {
+        return allocatedShipments;
+    }
+
+    public void setAllocatedShipments(int allocatedShipments) {
+        this.allocatedShipments = allocatedShipments;
+    }
+
+    public double getUtilizationPercentage() {
+        return utilizationPercentage;
+    }
+
+    public void setUtilizationPercentage(double utilizationPercentage) {
+        this.utilizationPercentage = utilizationPercentage;
+    }
+}
@@ -0,0 +1,111 @@
+package com.logistics.dto;
+
+import java.util.List;
+
+/**
+ * Plan for placing shipments without a warehouse, and whether it was applied
+ * shipments = allocatedShipments + unallocatedShipments; localShipments counts the
+ * allocated shipments placed at their origin or destination
+ */
+public class WarehouseAllocationResponse {
+    private boolean applied;
+    private int attempts;
+    private int shipments;
+    private int allocatedShipments;
+    private int unallocatedShipments;
+    private int localShipments;
+    private int regions;
+    private double targetUtilizationPercentage;
+    private long planningMillis;
+    private List<WarehouseAllocation> warehouses;
+    private List<ShipmentAllocation> allocations;
+
+    // Getters and Setters
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public void setApplied(boolean applied) {
+        this.applied = applied;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getShipments() {
+        return shipments;
+    }
+
+    public void setShipments(int shipments) {
+        this.shipments = shipments;
+    }
+
+    public int getAllocatedShipments() {
+        return allocatedShipments;
+    }
+
+    public void setAllocatedShipments(int allocatedShipments) {
+        this.allocatedShipments = allocatedShipments;
+    }
+
+    public int getUnallocatedShipments() {
+        return unallocatedShipments;
+    }
+
+    public void setUnallocatedShipments(int unallocatedShipments) {
+        this.unallocatedShipments = unallocatedShipments;
+    }
+
+    public int getLocalShipments() {
+        return localShipments;
+    }
+
+    public void setLocalShipments(int localShipments) {
+        this.localShipments = localShipments;
+    }
+
+    public int getRegions() {
+        return regions;
+    }
+
+    public void setRegions(int regions) {
+        this.regions = regions;
+    }
+
+    public double getTargetUtilizationPercentage() {
+        return targetUtilizationPercentage;
+    }
+
+    public void setTargetUtilizationPercentage(double targetUtilizationPercentage) {
+        this.targetUtilizationPercentage = targetUtilizationPercentage;
+    }
+
+    public long getPlanningMillis() {
+        return planningMillis;
+    }
+
+    public void setPlanningMillis(long planningMillis) {
+        this.planningMillis = planningMillis;
+    }
+
+    public List<WarehouseAllocation> getWarehouses() {
+        return warehouses;
+    }
+
+    public void setWarehouses(List<WarehouseAllocation> warehouses) {
+        this.warehouses = warehouses;
+    }
+
+    public List<ShipmentAllocation> getAllocations() {
+        return allocations;
+    }
+
+    public void setAllocations(List<ShipmentAllocation> allocations) {
+        this.allocations = allocations;
+    }
+}
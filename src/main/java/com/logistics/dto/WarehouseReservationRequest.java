@@ -0,0 +1,17 @@
+package com.logistics.dto;
+
+/**
+ * Load to reserve in, or release from, a warehouse
+ */
+public class WarehouseReservationRequest {
+    private Integer quantity;
+
+    // Getters and Setters
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
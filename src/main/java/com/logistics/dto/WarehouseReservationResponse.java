@@ -0,0 +1,65 @@
+package com.logistics.dto;
+
+/**
+ * Warehouse load right after a reservation or release was applied
+ * availableSpace = capacity - currentLoad
+ */
+public class WarehouseReservationResponse {
+    private int warehouseId;
+    private int quantity;
+    private int capacity;
+    private int currentLoad;
+    private int availableSpace;
+
+    public WarehouseReservationResponse() {
+    }
+
+    public WarehouseReservationResponse(int warehouseId, int quantity, int capacity, int currentLoad) {
+        this.warehouseId = warehouseId;
+        this.quantity = quantity;
+        this.capacity = capacity;
+        this.currentLoad = currentLoad;
+        this.availableSpace = capacity - currentLoad;
+    }
+
+    // Getters and Setters
+    public int getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(int warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getCurrentLoad() {
+        return currentLoad;
+    }
+
+    public void setCurrentLoad(int currentLoad) {
+        this.currentLoad = currentLoad;
+    }
+
+    public int getAvailableSpace() {
+        return availableSpace;
+    }
+
+    public void setAvailableSpace(int availableSpace) {
+        this.availableSpace = availableSpace;
+    }
+}
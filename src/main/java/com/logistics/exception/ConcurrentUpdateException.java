@@ -0,0 +1,16 @@
+package com.logistics.exception;
+
+/**
+ * Exception for writes that lost a race with a concurrent change of the same data
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ConcurrentUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,6 +4,8 @@ package com.logistics.exception;
  * Exception for database operation failures
  */
 public class DatabaseOperationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public DatabaseOperationException(String message) {
         super(message);
     }
@@ -4,6 +4,8 @@ package com.logistics.exception;
  * Exception for duplicate resource attempts
  */
 public class DuplicateResourceException extends InvalidInputException {
+    private static final long serialVersionUID = 1L;
+
     public DuplicateResourceException(String message) {
         super(message);
     }
@@ -4,6 +4,8 @@ package com.logistics.exception;
  * Base exception for invalid input
  */
 public class InvalidInputException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public InvalidInputException(String message) {
         super(message);
     }
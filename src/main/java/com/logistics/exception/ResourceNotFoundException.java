@@ -4,6 +4,8 @@ package com.logistics.exception;
  * Exception when a resource is not found
  */
 public class ResourceNotFoundException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
     public ResourceNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,71 @@
+package com.logistics.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Connection proxy whose statements are instrumented
+ *
+ * Everything else goes straight to the pooled connection, including
+ * unwrap, so driver-specific APIs such as COPY keep working.
+ */
+final class InstrumentedConnection implements InvocationHandler {
+
+    private final Connection target;
+    private final RepositoryMetrics metrics;
+    private final StatementProfiler profiler;
+
+    // Charged to the first statement executed on this connection
+    private long unclaimedAcquireNanos;
+
+    private InstrumentedConnection(Connection target, RepositoryMetrics metrics,
+                                   StatementProfiler profiler, long acquireNanos) {
+        this.target = target;
+        this.metrics = metrics;
+        this.profiler = profiler;
+        this.unclaimedAcquireNanos = acquireNanos;
+    }
+
+    static Connection wrap(Connection target, RepositoryMetrics metrics, StatementProfiler profiler, long acquireNanos) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new InstrumentedConnection(target, metrics, profiler, acquireNanos));
+    }
+
+    long claimAcquireNanos() {
+        long acquireNanos = unclaimedAcquireNanos;
+        unclaimedAcquireNanos = 0;
+        return acquireNanos;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+        }
+
+        Object result = invokeTarget(target, method, args);
+        if (result instanceof Statement) {
+            // Expose the same interface the caller asked for (Statement, PreparedStatement, CallableStatement)
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+            return InstrumentedStatement.wrap(method.getReturnType(), (Statement) result, this, metrics, profiler, sql);
+        }
+        return result;
+    }
+
+    static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
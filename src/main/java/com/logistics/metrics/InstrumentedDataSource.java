@@ -0,0 +1,73 @@
+package com.logistics.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Times connection acquisition and hands out connections whose statements
+ * are profiled
+ *
+ * unwrap and isWrapperFor reach the pooled DataSource, so callers that
+ * need it (pool metrics, driver-specific APIs) still find it.
+ */
+class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final ObjectProvider<MetricsRegistry> registry;
+    private final ObjectProvider<StatementProfiler> profilerProvider;
+    private volatile StatementProfiler profiler;
+    private volatile RepositoryMetrics unattributed;
+
+    InstrumentedDataSource(DataSource target, ObjectProvider<MetricsRegistry> registry,
+                           ObjectProvider<StatementProfiler> profiler) {
+        super(target);
+        this.registry = registry;
+        this.profilerProvider = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        RepositoryMetrics metrics = currentMetrics();
+        long started = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection();
+        long acquireNanos = System.nanoTime() - started;
+        metrics.acquireTime.record(acquireNanos);
+        return InstrumentedConnection.wrap(connection, metrics, profiler(), acquireNanos);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        RepositoryMetrics metrics = currentMetrics();
+        long started = System.nanoTime();
+        Connection connection = obtainTargetDataSource().getConnection(username, password);
+        long acquireNanos = System.nanoTime() - started;
+        metrics.acquireTime.record(acquireNanos);
+        return InstrumentedConnection.wrap(connection, metrics, profiler(), acquireNanos);
+    }
+
+    private RepositoryMetrics currentMetrics() {
+        RepositoryMetrics metrics = QueryContext.current();
+        if (metrics != null) {
+            return metrics;
+        }
+        RepositoryMetrics fallback = unattributed;
+        if (fallback == null) {
+            fallback = new RepositoryMetrics(registry.getObject(),
+                    RepositoryMetrics.UNATTRIBUTED, RepositoryMetrics.UNATTRIBUTED);
+            unattributed = fallback;
+        }
+        return fallback;
+    }
+
+    private StatementProfiler profiler() {
+        StatementProfiler current = profiler;
+        if (current == null) {
+            current = profilerProvider.getObject();
+            profiler = current;
+        }
+        return current;
+    }
+}
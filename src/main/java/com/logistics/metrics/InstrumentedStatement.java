@@ -0,0 +1,157 @@
+package com.logistics.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statement proxy that times each execution and remembers the shape of its
+ * bind parameters
+ *
+ * Queries hand back a {@link CountingResultSet}, which finishes the
+ * execution once its rows have been read.
+ */
+final class InstrumentedStatement implements InvocationHandler {
+
+    private final Statement target;
+    private final InstrumentedConnection connection;
+    private final RepositoryMetrics metrics;
+    private final StatementProfiler profiler;
+    private final String sql;
+
+    // Type of each bind parameter by position, filled by the setXxx(int, ...) calls
+    private final List<String> parameterTypes = new ArrayList<>();
+    private int batchedRows;
+    private StatementExecution current;
+
+    private InstrumentedStatement(Statement target, InstrumentedConnection connection,
+                                  RepositoryMetrics metrics, StatementProfiler profiler, String sql) {
+        this.target = target;
+        this.connection = connection;
+        this.metrics = metrics;
+        this.profiler = profiler;
+        this.sql = sql;
+    }
+
+    static Statement wrap(Class<?> type, Statement target, InstrumentedConnection connection,
+                          RepositoryMetrics metrics, StatementProfiler profiler, String sql) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                new InstrumentedStatement(target, connection, metrics, profiler, sql));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "executeQuery":
+            case "executeUpdate":
+            case "executeLargeUpdate":
+            case "execute":
+            case "executeBatch":
+            case "executeLargeBatch":
+                return execute(method, args);
+            case "getResultSet":
+                ResultSet resultSet = (ResultSet) InstrumentedConnection.invokeTarget(target, method, args);
+                return resultSet != null && current != null ? new CountingResultSet(resultSet, current) : resultSet;
+            case "addBatch":
+                batchedRows++;
+                break;
+            case "clearBatch":
+                batchedRows = 0;
+                break;
+            case "clearParameters":
+                parameterTypes.clear();
+                break;
+            case "close":
+                finishPending();
+                break;
+            default:
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    rememberParameter((Integer) args[0], name, args[1]);
+                }
+                break;
+        }
+        return InstrumentedConnection.invokeTarget(target, method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+        finishPending();
+
+        // Plain statements carry their SQL in the execute call
+        String statementSql = sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "";
+        String parameters = describeParameters();
+        long acquireNanos = connection.claimAcquireNanos();
+
+        long started = System.nanoTime();
+        Object result = InstrumentedConnection.invokeTarget(target, method, args);
+        long executed = System.nanoTime();
+        metrics.executeTime.record(executed - started);
+
+        StatementExecution execution = new StatementExecution(metrics, profiler, statementSql, parameters,
+                acquireNanos, executed - started, executed);
+        batchedRows = 0;
+
+        if (result instanceof ResultSet) {
+            return new CountingResultSet((ResultSet) result, execution);
+        }
+        if (Boolean.TRUE.equals(result)) {
+            // execute() produced a result set; finished when it is read or the statement closes
+            current = execution;
+            return result;
+        }
+        execution.finishUpdate(affectedRows(result));
+        return result;
+    }
+
+    private void finishPending() {
+        if (current != null) {
+            current.finishQuery(0);
+            current = null;
+        }
+    }
+
+    private void rememberParameter(int index, String setter, Object value) {
+        while (parameterTypes.size() < index) {
+            parameterTypes.add("?");
+        }
+        String type;
+        if (setter.equals("setNull") || value == null) {
+            type = "null";
+        } else if (value instanceof String) {
+            type = "String(" + ((String) value).length() + ")";
+        } else {
+            type = value.getClass().getSimpleName();
+        }
+        parameterTypes.set(index - 1, type);
+    }
+
+    private String describeParameters() {
+        String shape = "(" + String.join(", ", parameterTypes) + ")";
+        return batchedRows > 0 ? shape + " x " + batchedRows : shape;
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        long rows = 0;
+        if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                rows += Math.max(0, count);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                rows += Math.max(0, count);
+            }
+        }
+        return rows;
+    }
+}
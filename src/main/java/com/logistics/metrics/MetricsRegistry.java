@@ -0,0 +1,125 @@
+package com.logistics.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Named histograms, counters and gauges with labels, rendered in the
+ * Prometheus text exposition format
+ *
+ * Histograms are rendered as summaries with p50/p95/p99 quantiles, a sum
+ * and a count. Histograms whose name ends in _seconds are recorded in
+ * nanoseconds and converted when rendered.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99};
+
+    private final ConcurrentMap<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the histogram for a metric and label set, creating it on first use.
+     * Label values are escaped; labels are given as alternating names and values.
+     */
+    public Histogram histogram(String name, String help, String... labels) {
+        return (Histogram) series(name, help, "summary", labels, Histogram::new);
+    }
+
+    public LongAdder counter(String name, String help, String... labels) {
+        return (LongAdder) series(name, help, "counter", labels, LongAdder::new);
+    }
+
+    /**
+     * Registers a value that is read on every scrape; a later registration
+     * for the same label set replaces the earlier one
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        families.computeIfAbsent(name, key -> new Family(help, "gauge")).series.put(formatLabels(labels), value);
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        new TreeMap<>(families).forEach((name, family) -> {
+            out.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+
+            new TreeMap<>(family.series).forEach((labels, series) -> {
+                String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+                if (series instanceof Histogram) {
+                    appendSummary(out, name, labels, (Histogram) series);
+                } else if (series instanceof LongAdder) {
+                    out.append(name).append(braces).append(' ').append(((LongAdder) series).sum()).append('\n');
+                } else {
+                    out.append(name).append(braces).append(' ').append(((DoubleSupplier) series).getAsDouble()).append('\n');
+                }
+            });
+        });
+        return out.toString();
+    }
+
+    private Object series(String name, String help, String type, String[] labels,
+                          Supplier<Object> factory) {
+        Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+        String key = formatLabels(labels);
+        Object series = family.series.get(key);
+        return series != null ? series : family.series.computeIfAbsent(key, k -> factory.get());
+    }
+
+    private static void appendSummary(StringBuilder out, String name, String labels, Histogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        double scale = name.endsWith("_seconds") ? 1e-9 : 1.0;
+        String separator = labels.isEmpty() ? "" : ",";
+        for (double quantile : QUANTILES) {
+            out.append(name).append('{').append(labels).append(separator)
+                    .append("quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.percentile(quantile) * scale).append('\n');
+        }
+        String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(braces).append(' ').append(histogram.getSum() * scale).append('\n');
+        out.append(name).append("_count").append(braces).append(' ').append(histogram.getCount()).append('\n');
+    }
+
+    private static String formatLabels(String... labels) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (out.length() > 0) {
+                out.append(',');
+            }
+            out.append(labels[i]).append("=\"");
+            String value = labels[i + 1] != null ? labels[i + 1] : "";
+            for (int c = 0; c < value.length(); c++) {
+                char ch = value.charAt(c);
+                if (ch == '\\' || ch == '"') {
+                    out.append('\\').append(ch);
+                } else if (ch == '\n') {
+                    out.append("\\n");
+                } else {
+                    out.append(ch);
+                }
+            }
+            out.append('"');
+        }
+        return out.toString();
+    }
+
+    private static final class Family {
+        final String help;
+        final String type;
+        final Map<String, Object> series = new ConcurrentHashMap<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+}
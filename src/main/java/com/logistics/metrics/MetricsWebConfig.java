@@ -0,0 +1,25 @@
+package com.logistics.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Times every request under /api
+ */
+@Configuration
+public class MetricsWebConfig implements WebMvcConfigurer {
+
+    private final MetricsRegistry registry;
+
+    @Autowired
+    public MetricsWebConfig(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(this.registry)).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,72 @@
+package com.logistics.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Feeds HikariCP pool events and occupancy into the metrics registry
+ *
+ * Pool wait covers every connection request, whoever makes it, while
+ * logistics_jdbc_connection_acquire_seconds breaks the same wait down by
+ * repository method.
+ */
+class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final ObjectProvider<MetricsRegistry> registryProvider;
+
+    PoolMetricsTrackerFactory(ObjectProvider<MetricsRegistry> registry) {
+        this.registryProvider = registry;
+    }
+
+    // Called when the pool starts, on its first connection request
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MetricsRegistry registry = registryProvider.getObject();
+        registry.gauge("logistics_db_pool_active_connections", "Connections in use",
+                poolStats::getActiveConnections, "pool", poolName);
+        registry.gauge("logistics_db_pool_idle_connections", "Open connections waiting in the pool",
+                poolStats::getIdleConnections, "pool", poolName);
+        registry.gauge("logistics_db_pool_total_connections", "Open connections, in use or idle",
+                poolStats::getTotalConnections, "pool", poolName);
+        registry.gauge("logistics_db_pool_max_connections", "Configured maximum pool size",
+                poolStats::getMaxConnections, "pool", poolName);
+        registry.gauge("logistics_db_pool_pending_threads", "Threads waiting for a connection",
+                poolStats::getPendingThreads, "pool", poolName);
+
+        Histogram wait = registry.histogram("logistics_db_pool_wait_seconds",
+                "Time spent waiting for a connection from the pool", "pool", poolName);
+        Histogram usage = registry.histogram("logistics_db_pool_usage_seconds",
+                "Time a connection is held before being returned", "pool", poolName);
+        Histogram creation = registry.histogram("logistics_db_pool_connection_create_seconds",
+                "Time to open a new physical connection", "pool", poolName);
+        LongAdder timeouts = registry.counter("logistics_db_pool_timeouts_total",
+                "Connection requests that gave up after connection-timeout", "pool", poolName);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                wait.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                creation.record(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.logistics.metrics;
+
+/**
+ * The repository method running on the current thread, so connection and
+ * query measurements can be attributed to it
+ */
+final class QueryContext {
+
+    private static final ThreadLocal<RepositoryMetrics> CURRENT = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    static RepositoryMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns the enclosing context, to be handed back to {@link #exit}
+     */
+    static RepositoryMetrics enter(RepositoryMetrics metrics) {
+        RepositoryMetrics previous = CURRENT.get();
+        CURRENT.set(metrics);
+        return previous;
+    }
+
+    static void exit(RepositoryMetrics previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.logistics.metrics;
+
+/**
+ * Histograms for one repository method, shared by every call to it
+ */
+final class RepositoryMetrics {
+
+    static final String METHOD_SECONDS = "logistics_repository_method_seconds";
+    static final String ACQUIRE_SECONDS = "logistics_jdbc_connection_acquire_seconds";
+    static final String EXECUTE_SECONDS = "logistics_jdbc_statement_execute_seconds";
+    static final String MAPPING_SECONDS = "logistics_jdbc_result_mapping_seconds";
+    static final String ROWS_FETCHED = "logistics_jdbc_rows_fetched";
+
+    // Label used for JDBC work done outside a repository method
+    static final String UNATTRIBUTED = "other";
+
+    // Repository.method, as shown in slow statement reports
+    final String source;
+
+    final Histogram methodTime;
+    final Histogram acquireTime;
+    final Histogram executeTime;
+    final Histogram mappingTime;
+    final Histogram rowsFetched;
+
+    RepositoryMetrics(MetricsRegistry registry, String repository, String method) {
+        source = UNATTRIBUTED.equals(repository) ? UNATTRIBUTED : repository + "." + method;
+        methodTime = registry.histogram(METHOD_SECONDS, "Repository method latency",
+                "repository", repository, "method", method);
+        acquireTime = registry.histogram(ACQUIRE_SECONDS, "Time spent waiting for a database connection",
+                "repository", repository, "method", method);
+        executeTime = registry.histogram(EXECUTE_SECONDS, "Statement execution time, until the first rows are available",
+                "repository", repository, "method", method);
+        mappingTime = registry.histogram(MAPPING_SECONDS, "Time from query execution until its rows are read and closed",
+                "repository", repository, "method", method);
+        rowsFetched = registry.histogram(ROWS_FETCHED, "Rows read per query",
+                "repository", repository, "method", method);
+    }
+}
@@ -0,0 +1,58 @@
+package com.logistics.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * Instruments every @Repository bean and the application DataSource,
+ * including the HikariCP pool behind it
+ *
+ * Both beans are static and infrastructure-role so they are in place before
+ * the repositories and the DataSource are created; the registry and the
+ * statement profiler are looked up on first use for the same reason.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RepositoryMetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryMetricsAdvisor(ObjectProvider<MetricsRegistry> registry) {
+        return new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Repository.class, true),
+                new RepositoryMetricsInterceptor(registry));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static BeanPostProcessor dataSourceMetricsPostProcessor(ObjectProvider<MetricsRegistry> registry,
+                                                            ObjectProvider<StatementProfiler> profiler) {
+        return new BeanPostProcessor() {
+            // Before initialization, so replica pools copied from this one inherit the tracker
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && ((HikariDataSource) bean).getMetricsTrackerFactory() == null) {
+                    ((HikariDataSource) bean).setMetricsTrackerFactory(new PoolMetricsTrackerFactory(registry));
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource((DataSource) bean, registry, profiler);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.logistics.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Times every public method of a repository and makes it the current
+ * query context while it runs
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MetricsRegistry> registry;
+    private final ConcurrentMap<Method, RepositoryMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    RepositoryMetricsInterceptor(ObjectProvider<MetricsRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        RepositoryMetrics metrics = metricsByMethod.get(method);
+        if (metrics == null) {
+            String repository = ClassUtils.getUserClass(invocation.getThis().getClass()).getSimpleName();
+            metrics = metricsByMethod.computeIfAbsent(method,
+                    key -> new RepositoryMetrics(registry.getObject(), repository, key.getName()));
+        }
+
+        RepositoryMetrics previous = QueryContext.enter(metrics);
+        long started = System.nanoTime();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result instanceof Publisher ? timeUntilTerminated(result, metrics.methodTime) : result;
+        } finally {
+            if (!(result instanceof Publisher)) {
+                metrics.methodTime.record(System.nanoTime() - started);
+            }
+            QueryContext.exit(previous);
+        }
+    }
+
+    /**
+     * A reactive repository method returns before its query runs, so it is
+     * timed from subscription until it completes, fails or is cancelled
+     */
+    private static Object timeUntilTerminated(Object publisher, Histogram methodTime) {
+        if (publisher instanceof Mono) {
+            Mono<?> mono = (Mono<?>) publisher;
+            return Mono.defer(() -> {
+                long started = System.nanoTime();
+                return mono.doFinally(signal -> methodTime.record(System.nanoTime() - started));
+            });
+        }
+        if (publisher instanceof Flux) {
+            Flux<?> flux = (Flux<?>) publisher;
+            return Flux.defer(() -> {
+                long started = System.nanoTime();
+                return flux.doFinally(signal -> methodTime.record(System.nanoTime() - started));
+            });
+        }
+        return publisher;
+    }
+}
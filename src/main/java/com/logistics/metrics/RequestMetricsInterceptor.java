@@ -0,0 +1,52 @@
+package com.logistics.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the latency of every API request by method, route template and status
+ *
+ * The route template (/api/shipments/{id}) rather than the raw path keeps
+ * the number of series bounded.
+ */
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    static final String REQUEST_SECONDS = "logistics_http_server_requests_seconds";
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+
+    private final MetricsRegistry registry;
+
+    public RequestMetricsInterceptor(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Asynchronous (reactive) requests pass through here again when their
+        // result is dispatched; keep the time of the original dispatch
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - (Long) start;
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        registry.histogram(REQUEST_SECONDS, "API request latency by route and status",
+                        "method", request.getMethod(),
+                        "uri", pattern != null ? pattern.toString() : "UNMAPPED",
+                        "status", String.valueOf(response.getStatus()))
+                .record(elapsed);
+    }
+}
@@ -0,0 +1,63 @@
+package com.logistics.metrics;
+
+/**
+ * Timings of a single statement execution
+ *
+ * Mapping time runs from the end of execution until the result set is
+ * exhausted or closed, so it covers the caller's row mapping loop.
+ * Statements without a result set finish as soon as they execute.
+ */
+final class StatementExecution {
+
+    final RepositoryMetrics metrics;
+    final String sql;
+    final String parameters;
+    final long acquireNanos;
+    final long executeNanos;
+    private final long executedAt;
+    private final StatementProfiler profiler;
+
+    long mappingNanos;
+    long rows;
+    private boolean finished;
+
+    StatementExecution(RepositoryMetrics metrics, StatementProfiler profiler, String sql, String parameters,
+                       long acquireNanos, long executeNanos, long executedAt) {
+        this.metrics = metrics;
+        this.profiler = profiler;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.acquireNanos = acquireNanos;
+        this.executeNanos = executeNanos;
+        this.executedAt = executedAt;
+    }
+
+    long totalNanos() {
+        return acquireNanos + executeNanos + mappingNanos;
+    }
+
+    void finishQuery(long rowsFetched) {
+        if (!finished) {
+            mappingNanos = System.nanoTime() - executedAt;
+            metrics.rowsFetched.record(rowsFetched);
+            metrics.mappingTime.record(mappingNanos);
+            finish(rowsFetched);
+        }
+    }
+
+    void finishUpdate(long rowsAffected) {
+        if (!finished) {
+            finish(rowsAffected);
+        }
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    private void finish(long rowCount) {
+        finished = true;
+        rows = rowCount;
+        profiler.record(this);
+    }
+}
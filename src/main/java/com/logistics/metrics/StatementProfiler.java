@@ -0,0 +1,146 @@
+package com.logistics.metrics;
+
+import com.logistics.dto.SlowStatementResponse;
+import com.logistics.exception.InvalidInputException;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement timings, split into connection acquisition, execution and
+ * row mapping, and a log line for every statement slower than
+ * SLOW_QUERY_THRESHOLD_MS
+ *
+ * Only the types of bind parameters (and string lengths) are kept, never
+ * their values. Connection acquisition is charged to the first statement
+ * run on the connection. At most SLOW_QUERY_MAX_TRACKED distinct SQL
+ * strings are tracked; later ones are still logged when slow.
+ */
+@Component
+public class StatementProfiler {
+
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+    private final ConcurrentMap<String, StatementStats> statsBySql = new ConcurrentHashMap<>();
+
+    public StatementProfiler() {
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    void record(StatementExecution execution) {
+        long total = execution.totalNanos();
+        boolean slow = total >= config.getIntConfig("SLOW_QUERY_THRESHOLD_MS", 200) * 1_000_000L;
+
+        StatementStats stats = statsBySql.get(execution.sql);
+        if (stats == null && statsBySql.size() < config.getIntConfig("SLOW_QUERY_MAX_TRACKED", 1000)) {
+            stats = statsBySql.computeIfAbsent(execution.sql, StatementStats::new);
+        }
+        if (stats != null) {
+            stats.record(execution, slow);
+        }
+
+        if (slow) {
+            loggingService.warn("Slow statement in {}: {} ms (acquire {} ms, execute {} ms, mapping {} ms), {} rows, parameters {}: {}",
+                    execution.metrics.source, millis(total), millis(execution.acquireNanos),
+                    millis(execution.executeNanos), millis(execution.mappingNanos),
+                    execution.rows, execution.parameters, execution.sql);
+        }
+    }
+
+    /**
+     * Statements ordered by their slowest execution, slowest first
+     */
+    public List<SlowStatementResponse> getSlowestStatements(Integer limit) {
+        int size = limit != null ? limit : config.getIntConfig("SLOW_QUERY_REPORT_SIZE", 10);
+        if (size <= 0) {
+            throw new InvalidInputException("Limit must be positive");
+        }
+
+        // Snapshot first: the slowest sample can change while sorting
+        List<SlowStatementResponse> report = new ArrayList<>(statsBySql.size());
+        for (StatementStats stats : statsBySql.values()) {
+            report.add(stats.toResponse());
+        }
+        report.sort(Comparator.comparingDouble(SlowStatementResponse::getMaxMillis).reversed());
+        return new ArrayList<>(report.subList(0, Math.min(size, report.size())));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private static final class StatementStats {
+        final String sql;
+        final Histogram totalTime = new Histogram();
+        final LongAdder slowCount = new LongAdder();
+        final LongAdder acquireNanos = new LongAdder();
+        final LongAdder executeNanos = new LongAdder();
+        final LongAdder mappingNanos = new LongAdder();
+        volatile Sample slowest = new Sample(null, 0, null, null);
+
+        StatementStats(String sql) {
+            this.sql = sql;
+        }
+
+        void record(StatementExecution execution, boolean slow) {
+            long total = execution.totalNanos();
+            totalTime.record(total);
+            acquireNanos.add(execution.acquireNanos);
+            executeNanos.add(execution.executeNanos);
+            mappingNanos.add(execution.mappingNanos);
+            if (slow) {
+                slowCount.increment();
+            }
+            if (total > slowest.totalNanos) {
+                synchronized (this) {
+                    if (total > slowest.totalNanos) {
+                        slowest = new Sample(execution.metrics.source, total, execution.parameters, Instant.now());
+                    }
+                }
+            }
+        }
+
+        SlowStatementResponse toResponse() {
+            long count = Math.max(1, totalTime.getCount());
+            Sample sample = slowest;
+
+            SlowStatementResponse response = new SlowStatementResponse();
+            response.setSql(sql);
+            response.setSource(sample.source);
+            response.setExecutions(totalTime.getCount());
+            response.setSlowExecutions(slowCount.sum());
+            response.setMeanMillis(millis(totalTime.getSum() / count));
+            response.setP95Millis(millis(totalTime.percentile(0.95)));
+            response.setMaxMillis(millis(sample.totalNanos));
+            response.setMeanAcquireMillis(millis(acquireNanos.sum() / count));
+            response.setMeanExecuteMillis(millis(executeNanos.sum() / count));
+            response.setMeanMappingMillis(millis(mappingNanos.sum() / count));
+            response.setSlowestParameters(sample.parameters);
+            response.setSlowestAt(sample.at);
+            return response;
+        }
+    }
+
+    private static final class Sample {
+        final String source;
+        final long totalNanos;
+        final String parameters;
+        final Instant at;
+
+        Sample(String source, long totalNanos, String parameters, Instant at) {
+            this.source = source;
+            this.totalNanos = totalNanos;
+            this.parameters = parameters;
+            this.at = at;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.logistics.model;
+
+/**
+ * One-way transport lane between two locations, an edge of the route graph
+ */
+public class Lane {
+    private Integer id;
+    private String origin;
+    private String destination;
+    private Double transitHours;
+    private Double costPerKg;
+
+    public Lane() {
+    }
+
+    public Lane(Integer id, String origin, String destination, Double transitHours, Double costPerKg) {
+        this.id = id;
+        this.origin = origin;
+        this.destination = destination;
+        this.transitHours = transitHours;
+        this.costPerKg = costPerKg;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public Double getTransitHours() {
+        return transitHours;
+    }
+
+    public void setTransitHours(Double transitHours) {
+        this.transitHours = transitHours;
+    }
+
+    public Double getCostPerKg() {
+        return costPerKg;
+    }
+
+    public void setCostPerKg(Double costPerKg) {
+        this.costPerKg = costPerKg;
+    }
+}
@@ -0,0 +1,59 @@
+package com.logistics.patterns.singleton;
+
+/**
+ * One log call as captured on the calling thread; turned into text
+ * only when it is written or read back
+ *
+ * The message is a template whose {} placeholders are replaced by the
+ * arguments in order. Up to two arguments are stored in fields so the
+ * common calls need no array.
+ */
+final class LogEntry {
+    final long timestamp;
+    final String level;
+    final String template;
+    final int argCount;
+    final Object arg1;
+    final Object arg2;
+    final Object[] args;
+
+    LogEntry(long timestamp, String level, String message) {
+        this(timestamp, level, message, 0, null, null, null);
+    }
+
+    LogEntry(long timestamp, String level, String template, int argCount, Object arg1, Object arg2, Object[] args) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.template = template;
+        this.argCount = argCount;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.args = args;
+    }
+
+    /**
+     * Appends the message with placeholders substituted; surplus placeholders are kept as is
+     */
+    StringBuilder appendMessage(StringBuilder target) {
+        if (argCount == 0) {
+            return target.append(template);
+        }
+        int from = 0;
+        for (int i = 0; i < argCount; i++) {
+            int placeholder = template.indexOf("{}", from);
+            if (placeholder < 0) {
+                break;
+            }
+            target.append(template, from, placeholder).append(arg(i));
+            from = placeholder + 2;
+        }
+        return target.append(template, from, template.length());
+    }
+
+    private Object arg(int index) {
+        if (args != null) {
+            return args[index];
+        }
+        return index == 0 ? arg1 : arg2;
+    }
+}
@@ -0,0 +1,11 @@
+package com.logistics.patterns.singleton;
+
+/**
+ * Log severities in increasing order; entries below LOG_LEVEL are discarded
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR
+}
@@ -1,70 +1,332 @@
 package com.logistics.patterns.singleton;
 
-import org.springframework.stereotype.Component;
-
-import java.time.LocalDateTime;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * SINGLETON PATTERN - Centralized Logging Service
  *
  * Purpose: Single instance for managing application-wide logging
+ *
+ * Log calls only capture the entry and hand it to a background writer
+ * through a lock-free ring buffer (LOG_BUFFER_SIZE), so calling threads
+ * never format text or block on console output. When the buffer is full
+ * entries are dropped and counted rather than making callers wait.
+ * The last LOG_HISTORY_SIZE entries are kept for getRecentLogs.
+ *
+ * Prefer the placeholder forms, e.g. info("Fetching shipment with ID: {}", id):
+ * below LOG_LEVEL they return before building anything, and above it the
+ * message is assembled on the writer thread. Arguments are rendered with
+ * toString when written, so pass immutable values. An entry that fails
+ * to format is written as its template with the failure instead.
+ *
+ * Not a Spring bean: the constructor starts the writer thread, so the one
+ * instance is only ever created through getInstance.
  */
-@Component
 public class LoggingService {
 
-    private static LoggingService instance;
-    private List<String> logs;
-    private DateTimeFormatter formatter;
+    private static final DateTimeFormatter FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final long SHUTDOWN_DRAIN_MILLIS = 2000;
+
+    // Reused by threads that read the history back
+    private static final ThreadLocal<StringBuilder> FORMAT_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final LogRingBuffer buffer;
+    private final PrintStream out;
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private volatile LogLevel threshold;
+
+    // Filled only by the writer thread, read by any
+    private final AtomicReferenceArray<LogEntry> history;
+    private volatile long historyCount;
+    private volatile long historyClearedAt;
+
+    // Writer-thread cache: consecutive entries usually share the same second
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
 
     private LoggingService() {
-        logs = new ArrayList<>();
-        formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LogisticsConfig config = LogisticsConfig.getInstance();
+        buffer = new LogRingBuffer(config.getIntConfig("LOG_BUFFER_SIZE", 8192));
+        history = new AtomicReferenceArray<>(Math.max(1, config.getIntConfig("LOG_HISTORY_SIZE", 1000)));
+        out = System.out;
+        threshold = parseLevel(config.getConfig("LOG_LEVEL"), LogLevel.INFO);
+
+        writer = new Thread(this::drainLoop, "logging-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "logging-shutdown"));
     }
 
-    public static synchronized LoggingService getInstance() {
-        if (instance == null) {
-            instance = new LoggingService();
-        }
-        return instance;
+    // Lazy, thread-safe initialization without a lock on every call, which
+    // would pin virtual threads to their carrier while contended
+    private static final class Holder {
+        static final LoggingService INSTANCE = new LoggingService();
+    }
+
+    public static LoggingService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public LogLevel getLevel() {
+        return threshold;
     }
 
+    public void setLevel(LogLevel level) {
+        this.threshold = level;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    /**
+     * Levels that are not a {@link LogLevel} are always logged
+     */
     public void log(String level, String message) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        String logEntry = String.format("[%s] [%s] %s", timestamp, level, message);
-        logs.add(logEntry);
-        System.out.println(logEntry);
+        LogLevel known = parseLevel(level, null);
+        if (known == null || isEnabled(known)) {
+            submit(new LogEntry(System.currentTimeMillis(), level, message));
+        }
     }
 
     public void info(String message) {
-        log("INFO", message);
+        log(LogLevel.INFO, message, 0, null, null, null);
+    }
+
+    public void info(String template, Object arg) {
+        log(LogLevel.INFO, template, 1, arg, null, null);
+    }
+
+    public void info(String template, Object arg1, Object arg2) {
+        log(LogLevel.INFO, template, 2, arg1, arg2, null);
+    }
+
+    public void info(String template, Object... args) {
+        log(LogLevel.INFO, template, args.length, null, null, args);
     }
 
     public void warn(String message) {
-        log("WARN", message);
+        log(LogLevel.WARN, message, 0, null, null, null);
+    }
+
+    public void warn(String template, Object arg) {
+        log(LogLevel.WARN, template, 1, arg, null, null);
+    }
+
+    public void warn(String template, Object arg1, Object arg2) {
+        log(LogLevel.WARN, template, 2, arg1, arg2, null);
+    }
+
+    public void warn(String template, Object... args) {
+        log(LogLevel.WARN, template, args.length, null, null, args);
     }
 
     public void error(String message) {
-        log("ERROR", message);
+        log(LogLevel.ERROR, message, 0, null, null, null);
+    }
+
+    public void error(String template, Object arg) {
+        log(LogLevel.ERROR, template, 1, arg, null, null);
+    }
+
+    public void error(String template, Object arg1, Object arg2) {
+        log(LogLevel.ERROR, template, 2, arg1, arg2, null);
+    }
+
+    public void error(String template, Object... args) {
+        log(LogLevel.ERROR, template, args.length, null, null, args);
     }
 
     public void debug(String message) {
-        log("DEBUG", message);
+        log(LogLevel.DEBUG, message, 0, null, null, null);
+    }
+
+    public void debug(String template, Object arg) {
+        log(LogLevel.DEBUG, template, 1, arg, null, null);
+    }
+
+    public void debug(String template, Object arg1, Object arg2) {
+        log(LogLevel.DEBUG, template, 2, arg1, arg2, null);
     }
 
+    public void debug(String template, Object... args) {
+        log(LogLevel.DEBUG, template, args.length, null, null, args);
+    }
+
+    /**
+     * Entries still in the buffer are not included until the writer has taken them
+     */
     public List<String> getLogs() {
-        return new ArrayList<>(logs);
+        return getRecentLogs(history.length());
     }
 
     public List<String> getRecentLogs(int count) {
-        int size = logs.size();
-        int fromIndex = Math.max(0, size - count);
-        return new ArrayList<>(logs.subList(fromIndex, size));
+        long end = historyCount;
+        long start = Math.max(Math.max(0, end - Math.min(count, history.length())), historyClearedAt);
+
+        List<String> logs = new ArrayList<>((int) Math.max(0, end - start));
+        for (long i = start; i < end; i++) {
+            LogEntry entry = history.get((int) (i % history.length()));
+            if (entry != null) {
+                StringBuilder line = FORMAT_BUFFER.get();
+                line.setLength(0);
+                logs.add(formatOrFallback(entry, line).toString());
+            }
+        }
+        return logs;
     }
 
     public void clearLogs() {
-        logs.clear();
+        historyClearedAt = historyCount;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void log(LogLevel level, String template, int argCount, Object arg1, Object arg2, Object[] args) {
+        if (level.compareTo(threshold) >= 0) {
+            submit(new LogEntry(System.currentTimeMillis(), level.name(), template, argCount, arg1, arg2, args));
+        }
+    }
+
+    private void submit(LogEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+            return;
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private static LogLevel parseLevel(String level, LogLevel defaultLevel) {
+        for (LogLevel candidate : LogLevel.values()) {
+            if (candidate.name().equalsIgnoreCase(level)) {
+                return candidate;
+            }
+        }
+        return defaultLevel;
+    }
+
+    private void drainLoop() {
+        StringBuilder batch = new StringBuilder(8192);
+        while (true) {
+            LogEntry entry = buffer.poll();
+            if (entry != null) {
+                append(entry, batch);
+                // Write in chunks so a long burst still reaches the console steadily
+                if (batch.length() >= 8192) {
+                    flush(batch);
+                }
+                continue;
+            }
+
+            flush(batch);
+            long lost = dropped.sumThenReset();
+            if (lost > 0) {
+                out.println("[" + FORMATTER.format(Instant.now()) + "] [WARN] " + lost
+                        + " log entries dropped, logging buffer full");
+            }
+            if (closed) {
+                return;
+            }
+
+            writerParked = true;
+            // Re-check after announcing the park so a concurrent offer cannot be missed
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.park(this);
+            }
+            writerParked = false;
+        }
+    }
+
+    private void append(LogEntry entry, StringBuilder batch) {
+        int start = batch.length();
+        try {
+            format(entry, batch);
+        } catch (RuntimeException e) {
+            // An argument's toString or a bad template must not stop the writer
+            batch.setLength(start);
+            entry = failed(entry, e);
+            format(entry, batch);
+        }
+        batch.append(System.lineSeparator());
+
+        long count = historyCount;
+        history.set((int) (count % history.length()), entry);
+        historyCount = count + 1;
+    }
+
+    private StringBuilder format(LogEntry entry, StringBuilder target) {
+        target.append('[').append(timestamp(entry.timestamp)).append("] [")
+                .append(entry.level).append("] ");
+        return entry.appendMessage(target);
+    }
+
+    private StringBuilder formatOrFallback(LogEntry entry, StringBuilder target) {
+        int start = target.length();
+        try {
+            return format(entry, target);
+        } catch (RuntimeException e) {
+            target.setLength(start);
+            return format(failed(entry, e), target);
+        }
+    }
+
+    // The entry with its template kept verbatim and the formatting failure appended
+    private static LogEntry failed(LogEntry entry, RuntimeException e) {
+        return new LogEntry(entry.timestamp, entry.level, entry.template
+                + " [log arguments could not be formatted: " + e.getClass().getName() + "]");
+    }
+
+    private String timestamp(long millis) {
+        if (Thread.currentThread() != writer) {
+            return FORMATTER.format(Instant.ofEpochMilli(millis));
+        }
+        long second = millis / 1000;
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = FORMATTER.format(Instant.ofEpochMilli(millis));
+        }
+        return cachedTimestamp;
+    }
+
+    private void flush(StringBuilder batch) {
+        if (batch.length() > 0) {
+            out.print(batch);
+            out.flush();
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * Lets the writer drain what is buffered before the JVM exits
+     */
+    private void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_DRAIN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
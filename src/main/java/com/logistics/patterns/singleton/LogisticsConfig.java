@@ -14,7 +14,6 @@ import java.util.Map;
 @Component
 public class LogisticsConfig {
 
-    private static LogisticsConfig instance;
     private Map<String, String> configurations;
 
     // Private constructor to prevent direct instantiation
@@ -23,12 +22,13 @@ public class LogisticsConfig {
         loadDefaultConfigurations();
     }
 
-    // Thread-safe singleton getInstance method
-    public static synchronized LogisticsConfig getInstance() {
-        if (instance == null) {
-            instance = new LogisticsConfig();
-        }
-        return instance;
+    // Thread-safe singleton: the JVM initializes the holder once, on first use
+    private static final class Holder {
+        static final LogisticsConfig INSTANCE = new LogisticsConfig();
+    }
+
+    public static LogisticsConfig getInstance() {
+        return Holder.INSTANCE;
     }
 
     private void loadDefaultConfigurations() {
@@ -39,6 +39,33 @@ public class LogisticsConfig {
         configurations.put("STANDARD_DELIVERY_DAYS", "5");
         configurations.put("ECONOMY_DELIVERY_DAYS", "10");
         configurations.put("MAX_RETRY_ATTEMPTS", "3");
+        configurations.put("DEFAULT_PAGE_SIZE", "50");
+        configurations.put("MAX_PAGE_SIZE", "500");
+        configurations.put("EXPORT_FETCH_SIZE", "1000");
+        configurations.put("BATCH_CHUNK_SIZE", "500");
+        configurations.put("MAX_BATCH_SIZE", "100000");
+        configurations.put("IMPORT_MAX_REPORTED_REJECTIONS", "100");
+        configurations.put("SHIPMENT_CACHE_MAX_SIZE", "100000");
+        configurations.put("SHIPMENT_CACHE_TTL_SECONDS", "60");
+        configurations.put("TRACKING_FILTER_MIN_CAPACITY", "1000000");
+        configurations.put("TRACKING_FILTER_FALSE_POSITIVE_RATE", "0.01");
+        configurations.put("TRACKING_FILTER_MAX_STALE_RATIO", "0.2");
+        configurations.put("TRACKING_FILTER_REBUILD_INTERVAL_SECONDS", "300");
+        configurations.put("TRACKING_FILTER_PROBE_MARGIN_SECONDS", "60");
+        configurations.put("STATS_RECONCILE_INTERVAL_SECONDS", "300");
+        configurations.put("LOG_BUFFER_SIZE", "8192");
+        configurations.put("LOG_HISTORY_SIZE", "1000");
+        configurations.put("LOG_LEVEL", "INFO");
+        configurations.put("SLOW_QUERY_THRESHOLD_MS", "200");
+        configurations.put("SLOW_QUERY_REPORT_SIZE", "10");
+        configurations.put("SLOW_QUERY_MAX_TRACKED", "1000");
+        configurations.put("REPLICA_MAX_LAG_MS", "5000");
+        configurations.put("RESERVATION_LEDGER_STRIPES", "64");
+        configurations.put("RESERVATION_MAX_BATCH", "1000");
+        configurations.put("ROUTING_HUB_COUNT", "16");
+        configurations.put("ROUTE_GRAPH_MAX_AGE_SECONDS", "300");
+        configurations.put("ROUTE_PLANNING_BUDGET_MS", "200");
+        configurations.put("ROUTE_PLANNING_MAX_BUDGET_MS", "10000");
     }
 
     public String getConfig(String key) {
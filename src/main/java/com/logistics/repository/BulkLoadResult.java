@@ -0,0 +1,28 @@
+package com.logistics.repository;
+
+/**
+ * Row counts of a bulk load: rows copied into the staging table and
+ * rows merged into the target table. The difference was skipped by the
+ * merge (duplicate key or unknown reference).
+ */
+public class BulkLoadResult {
+    private final long staged;
+    private final long inserted;
+
+    public BulkLoadResult(long staged, long inserted) {
+        this.staged = staged;
+        this.inserted = inserted;
+    }
+
+    public long getStaged() {
+        return staged;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public long getSkipped() {
+        return staged - inserted;
+    }
+}
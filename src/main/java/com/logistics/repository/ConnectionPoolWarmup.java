@@ -0,0 +1,82 @@
+package com.logistics.repository;
+
+import com.logistics.datasource.ReplicaRoutingDataSource;
+import com.logistics.patterns.singleton.LoggingService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opens the minimum-idle connections of each pool, primary and replicas,
+ * before the application reports ready, so the first requests do not pay
+ * for connection setup
+ *
+ * The connections are held together so the pool has to open distinct
+ * ones, and each is validated with a round trip. A database that is not
+ * reachable yet only produces a warning; the pool keeps retrying.
+ */
+@Component
+public class ConnectionPoolWarmup {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource dataSource;
+    private final LoggingService loggingService;
+
+    @Autowired
+    public ConnectionPoolWarmup(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.loggingService = LoggingService.getInstance();
+    }
+
+    // ApplicationStartedEvent is handled before the application is marked ready
+    @EventListener(ApplicationStartedEvent.class)
+    public void warmUp() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                warmUp(dataSource, dataSource.unwrap(HikariDataSource.class));
+            }
+            if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                for (DataSource replica : dataSource.unwrap(ReplicaRoutingDataSource.class).getReplicas()) {
+                    warmUp(replica, replica.unwrap(HikariDataSource.class));
+                }
+            }
+        } catch (SQLException e) {
+            loggingService.warn("Connection pool warm-up skipped: {}", e.getMessage());
+        }
+    }
+
+    private void warmUp(DataSource pool, HikariDataSource settings) {
+        long started = System.currentTimeMillis();
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < settings.getMinimumIdle(); i++) {
+                Connection connection = pool.getConnection();
+                connections.add(connection);
+                connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            loggingService.info("Connection pool {} warmed up with {} connections in {} ms",
+                    settings.getPoolName(), connections.size(), System.currentTimeMillis() - started);
+
+        } catch (SQLException e) {
+            loggingService.warn("Connection pool {} warm-up stopped after {} connections: {}",
+                    settings.getPoolName(), connections.size(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    loggingService.warn("Failed to return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+}
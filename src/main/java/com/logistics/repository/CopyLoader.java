@@ -0,0 +1,137 @@
+package com.logistics.repository;
+
+import com.logistics.exception.DatabaseOperationException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+
+/**
+ * Streams rows into a temporary staging table with PostgreSQL COPY and
+ * merges them into the target table, all in one transaction.
+ *
+ * The staging table is named {@code <table>_staging} and has exactly the
+ * copied columns; merge statements select from it.
+ */
+final class CopyLoader {
+
+    private static final int FLUSH_THRESHOLD = 32 * 1024;
+
+    private CopyLoader() {
+    }
+
+    static BulkLoadResult load(DataSource dataSource, String table, String columns,
+                               String mergeSql, Iterator<Object[]> rows) {
+        String staging = table + "_staging";
+
+        try (Connection conn = dataSource.getConnection()) {
+            if (!conn.isWrapperFor(PGConnection.class)) {
+                throw new DatabaseOperationException("Bulk import requires a PostgreSQL database");
+            }
+            CopyManager copyManager = conn.unwrap(PGConnection.class).getCopyAPI();
+
+            conn.setAutoCommit(false);
+            try {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("CREATE TEMPORARY TABLE " + staging + " ON COMMIT DROP AS " +
+                            "SELECT " + columns + " FROM " + table + " WITH NO DATA");
+                }
+
+                long staged = copy(copyManager, "COPY " + staging + " (" + columns + ") FROM STDIN", rows);
+
+                long inserted;
+                try (Statement stmt = conn.createStatement()) {
+                    inserted = stmt.executeUpdate(mergeSql);
+                }
+
+                conn.commit();
+                return new BulkLoadResult(staged, inserted);
+
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error bulk loading " + table + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static long copy(CopyManager copyManager, String sql, Iterator<Object[]> rows) throws SQLException {
+        CopyIn copyIn = copyManager.copyIn(sql);
+        try {
+            StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            while (rows.hasNext()) {
+                appendRow(buffer, rows.next());
+                if (buffer.length() >= FLUSH_THRESHOLD) {
+                    flush(copyIn, buffer);
+                }
+            }
+            flush(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.length() == 0) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Appends one row in COPY text format: tab separated, \N for null
+     */
+    private static void appendRow(StringBuilder buffer, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.append('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                buffer.append("\\N");
+            } else if (value instanceof Boolean) {
+                buffer.append((Boolean) value ? 't' : 'f');
+            } else {
+                appendEscaped(buffer, value.toString());
+            }
+        }
+        buffer.append('\n');
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                default:
+                    buffer.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.logistics.repository;
+
+import com.logistics.datasource.ReadOnlyQuery;
+import com.logistics.exception.DatabaseOperationException;
+import com.logistics.exception.ResourceNotFoundException;
+import com.logistics.model.Lane;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class LaneRepository {
+
+    // mapResultSetToLane reads columns by position in this list
+    private static final String SELECT_COLUMNS = "id, origin, destination, transit_hours, cost_per_kg";
+
+    private final DataSource dataSource;
+
+    @Autowired
+    public LaneRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public Lane create(Lane lane) {
+        String sql = "INSERT INTO lanes (origin, destination, transit_hours, cost_per_kg) VALUES (?, ?, ?, ?)";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, lane.getOrigin());
+            stmt.setString(2, lane.getDestination());
+            stmt.setDouble(3, lane.getTransitHours());
+            stmt.setDouble(4, lane.getCostPerKg());
+            stmt.executeUpdate();
+
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    lane.setId(keys.getInt(1));
+                }
+            }
+            return lane;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error creating lane: " + e.getMessage(), e);
+        }
+    }
+
+    @ReadOnlyQuery
+    public List<Lane> findAll() {
+        List<Lane> lanes = new ArrayList<>();
+        streamAll(lanes::add);
+        return lanes;
+    }
+
+    /**
+     * Hands every lane to the consumer in id order. Not a @ReadOnlyQuery:
+     * the route graph is built from it and must see lanes just written.
+     */
+    public void streamAll(Consumer<Lane> consumer) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM lanes ORDER BY id";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                consumer.accept(mapResultSetToLane(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching lanes: " + e.getMessage(), e);
+        }
+    }
+
+    public void delete(Integer id) {
+        String sql = "DELETE FROM lanes WHERE id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setInt(1, id);
+            int rows = stmt.executeUpdate();
+            if (rows == 0) {
+                throw new ResourceNotFoundException("Lane not found with id: " + id);
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error deleting lane: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps a row selected with {@link #SELECT_COLUMNS} by column position
+     */
+    private Lane mapResultSetToLane(ResultSet rs) throws SQLException {
+        return new Lane(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getDouble(4), rs.getDouble(5));
+    }
+}
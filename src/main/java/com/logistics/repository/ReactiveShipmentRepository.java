@@ -0,0 +1,154 @@
+package com.logistics.repository;
+
+import com.logistics.datasource.ReadOnlyQuery;
+import com.logistics.exception.DatabaseOperationException;
+import com.logistics.exception.ResourceNotFoundException;
+import com.logistics.model.*;
+import com.logistics.patterns.factory.ShipmentFactory;
+import io.r2dbc.spi.R2dbcException;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Non-blocking shipment reads over R2DBC
+ *
+ * Returns the same Shipment subclasses as {@link ShipmentRepository},
+ * created through {@link ShipmentFactory}, and shares its cache and
+ * tracking number filter. Streams request rows from the database as the
+ * subscriber consumes them, fetchSize rows at a time.
+ */
+@Repository
+public class ReactiveShipmentRepository {
+
+    private final DatabaseClient databaseClient;
+    private final ShipmentFactory shipmentFactory;
+    private final ShipmentCache cache;
+    private final TrackingNumberFilter trackingNumbers;
+
+    @Autowired
+    public ReactiveShipmentRepository(DatabaseClient databaseClient, ShipmentFactory shipmentFactory,
+                                      ShipmentCache cache, TrackingNumberFilter trackingNumbers) {
+        this.databaseClient = databaseClient;
+        this.shipmentFactory = shipmentFactory;
+        this.cache = cache;
+        this.trackingNumbers = trackingNumbers;
+    }
+
+    /**
+     * Read-through: served from {@link ShipmentCache} when present.
+     * The returned shipment may be shared and must not be modified.
+     */
+    @ReadOnlyQuery
+    public Mono<Shipment> findById(Integer id) {
+        return Mono.defer(() -> {
+            Shipment cached = cache.getById(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            long loadStamp = cache.beginLoad();
+            return databaseClient.sql("SELECT " + ShipmentRepository.SELECT_COLUMNS + " FROM shipments WHERE id = :id")
+                    .bind("id", id)
+                    .map((row, metadata) -> mapRowToShipment(row))
+                    .one()
+                    .doOnNext(shipment -> cache.put(shipment, loadStamp))
+                    .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Shipment not found with id: " + id)))
+                    .onErrorMap(R2dbcException.class,
+                            e -> new DatabaseOperationException("Error finding shipment: " + e.getMessage(), e));
+        });
+    }
+
+    /**
+     * Read-through: served from {@link ShipmentCache} when present.
+     * The returned shipment may be shared and must not be modified.
+     */
+    @ReadOnlyQuery
+    public Mono<Shipment> findByTrackingNumber(String trackingNumber) {
+        return Mono.defer(() -> {
+            Shipment cached = cache.getByTrackingNumber(trackingNumber);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            if (!trackingNumbers.mightContain(trackingNumber)) {
+                return Mono.error(new ResourceNotFoundException("Shipment not found with tracking number: " + trackingNumber));
+            }
+
+            long loadStamp = cache.beginLoad();
+            return databaseClient.sql("SELECT " + ShipmentRepository.SELECT_COLUMNS + " FROM shipments WHERE tracking_number = :trackingNumber")
+                    .bind("trackingNumber", trackingNumber)
+                    .map((row, metadata) -> mapRowToShipment(row))
+                    .one()
+                    .doOnNext(shipment -> cache.put(shipment, loadStamp))
+                    .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Shipment not found with tracking number: " + trackingNumber)))
+                    .onErrorMap(R2dbcException.class,
+                            e -> new DatabaseOperationException("Error finding shipment: " + e.getMessage(), e));
+        });
+    }
+
+    /**
+     * Streams the shipments with the given status in id order
+     */
+    @ReadOnlyQuery
+    public Flux<Shipment> streamByStatus(String status, int fetchSize) {
+        return databaseClient.sql("SELECT " + ShipmentRepository.SELECT_COLUMNS + " FROM shipments WHERE status = :status ORDER BY id")
+                .bind("status", status)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> mapRowToShipment(row))
+                .all()
+                .onErrorMap(R2dbcException.class,
+                        e -> new DatabaseOperationException("Error finding shipments by status: " + e.getMessage(), e));
+    }
+
+    /**
+     * Streams every shipment in id order
+     */
+    @ReadOnlyQuery
+    public Flux<Shipment> streamAll(int fetchSize) {
+        return databaseClient.sql("SELECT " + ShipmentRepository.SELECT_COLUMNS + " FROM shipments ORDER BY id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map((row, metadata) -> mapRowToShipment(row))
+                .all()
+                .onErrorMap(R2dbcException.class,
+                        e -> new DatabaseOperationException("Error exporting shipments: " + e.getMessage(), e));
+    }
+
+    /**
+     * Maps a row selected with {@link ShipmentRepository#SELECT_COLUMNS} by
+     * column position; R2DBC positions start at 0
+     */
+    private Shipment mapRowToShipment(Row row) {
+        Shipment shipment = shipmentFactory.createShipment(row.get(2, String.class));
+
+        shipment.setId(row.get(0, Integer.class));
+        shipment.setTrackingNumber(row.get(1, String.class));
+        shipment.setSenderName(row.get(3, String.class));
+        shipment.setRecipientName(row.get(4, String.class));
+        shipment.setOrigin(row.get(5, String.class));
+        shipment.setDestination(row.get(6, String.class));
+        BigDecimal weight = row.get(7, BigDecimal.class);
+        shipment.setWeight(weight != null ? weight.doubleValue() : null);
+        shipment.setStatus(row.get(8, String.class));
+        shipment.setPriority(row.get(9, String.class));
+        shipment.setEstimatedDelivery(row.get(10, LocalDate.class));
+        shipment.setVehicleId(row.get(11, Integer.class));
+        shipment.setWarehouseId(row.get(12, Integer.class));
+
+        // Set type-specific attributes
+        if (shipment instanceof ExpressShipment) {
+            ((ExpressShipment) shipment).setFragile(Boolean.TRUE.equals(row.get(13, Boolean.class)));
+        } else if (shipment instanceof StandardShipment) {
+            ((StandardShipment) shipment).setTemperatureControlled(Boolean.TRUE.equals(row.get(14, Boolean.class)));
+        } else if (shipment instanceof EconomyShipment) {
+            ((EconomyShipment) shipment).setCustomsCleared(Boolean.TRUE.equals(row.get(15, Boolean.class)));
+        }
+
+        return shipment;
+    }
+}
@@ -0,0 +1,131 @@
+package com.logistics.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.logistics.datasource.ReadRouting;
+import com.logistics.model.Shipment;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache of shipments by id and tracking number
+ *
+ * Entries are evicted by size (SHIPMENT_CACHE_MAX_SIZE) or age
+ * (SHIPMENT_CACHE_TTL_SECONDS) and invalidated by writes. The tracking
+ * number index only points at ids, so a shipment is stored once and a
+ * single invalidation by id covers both lookups.
+ *
+ * Loads served by a read replica are not cached for REPLICA_MAX_LAG_MS
+ * after a write, since the replica may not have applied it yet.
+ *
+ * Cached shipments are shared between callers and must not be modified.
+ */
+@Component
+public class ShipmentCache {
+
+    private final Cache<Integer, Shipment> byId;
+    private final Cache<String, Integer> idByTrackingNumber;
+
+    // Bumped on every invalidation so loads that raced with a write are not cached
+    private final AtomicLong invalidations = new AtomicLong();
+    private final long replicaMaxLagNanos;
+    private volatile long lastInvalidatedAt;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ShipmentCache() {
+        LogisticsConfig config = LogisticsConfig.getInstance();
+        int maxSize = config.getIntConfig("SHIPMENT_CACHE_MAX_SIZE", 100000);
+        Duration ttl = Duration.ofSeconds(config.getIntConfig("SHIPMENT_CACHE_TTL_SECONDS", 60));
+        this.replicaMaxLagNanos = Duration.ofMillis(config.getIntConfig("REPLICA_MAX_LAG_MS", 5000)).toNanos();
+        this.lastInvalidatedAt = System.nanoTime() - replicaMaxLagNanos;
+
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idByTrackingNumber = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Shipment getById(Integer id) {
+        return record(byId.getIfPresent(id));
+    }
+
+    public Shipment getByTrackingNumber(String trackingNumber) {
+        Integer id = idByTrackingNumber.getIfPresent(trackingNumber);
+        Shipment shipment = id != null ? byId.getIfPresent(id) : null;
+
+        // The index may point at a shipment whose tracking number has since changed
+        if (shipment != null && !trackingNumber.equals(shipment.getTrackingNumber())) {
+            idByTrackingNumber.invalidate(trackingNumber);
+            shipment = null;
+        }
+        return record(shipment);
+    }
+
+    /**
+     * Call before reading from the database; pass the stamp to {@link #put}
+     */
+    public long beginLoad() {
+        return invalidations.get();
+    }
+
+    /**
+     * Caches a shipment loaded from the database, unless a write happened since beginLoad
+     */
+    public void put(Shipment shipment, long loadStamp) {
+        if (invalidations.get() != loadStamp) {
+            return;
+        }
+        if (ReadRouting.isReplicaRead() && System.nanoTime() - lastInvalidatedAt < replicaMaxLagNanos) {
+            return;
+        }
+        byId.put(shipment.getId(), shipment);
+        idByTrackingNumber.put(shipment.getTrackingNumber(), shipment.getId());
+
+        // A write may have slipped in between the check and the put
+        if (invalidations.get() != loadStamp) {
+            byId.invalidate(shipment.getId());
+        }
+    }
+
+    public void invalidate(Integer id) {
+        invalidations.incrementAndGet();
+        lastInvalidatedAt = System.nanoTime();
+        byId.invalidate(id);
+    }
+
+    public long getSize() {
+        return byId.estimatedSize();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return byId.stats().evictionCount();
+    }
+
+    private Shipment record(Shipment shipment) {
+        if (shipment != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return shipment;
+    }
+}
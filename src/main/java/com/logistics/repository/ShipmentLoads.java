@@ -0,0 +1,81 @@
+package com.logistics.repository;
+
+import java.util.Arrays;
+
+/**
+ * Id, weight, type and vehicle of many shipments held in primitive arrays,
+ * for planners that work on every pending shipment at once. Types are coded
+ * as {@link #EXPRESS}, {@link #STANDARD}, {@link #ECONOMY} or
+ * {@link #UNKNOWN}; a vehicle id of 0 means no vehicle.
+ */
+public class ShipmentLoads {
+    public static final byte EXPRESS = 0;
+    public static final byte STANDARD = 1;
+    public static final byte ECONOMY = 2;
+    public static final byte UNKNOWN = -1;
+
+    private int[] ids;
+    private double[] weights;
+    private byte[] types;
+    private int[] vehicleIds;
+    private int size;
+
+    public ShipmentLoads(int initialCapacity) {
+        this.ids = new int[Math.max(16, initialCapacity)];
+        this.weights = new double[ids.length];
+        this.types = new byte[ids.length];
+        this.vehicleIds = new int[ids.length];
+    }
+
+    public static byte typeCode(String shipmentType) {
+        if (shipmentType == null) {
+            return UNKNOWN;
+        }
+        switch (shipmentType) {
+            case "EXPRESS":
+                return EXPRESS;
+            case "STANDARD":
+                return STANDARD;
+            case "ECONOMY":
+                return ECONOMY;
+            default:
+                return UNKNOWN;
+        }
+    }
+
+    public void add(int id, double weight, byte type, int vehicleId) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            types = Arrays.copyOf(types, capacity);
+            vehicleIds = Arrays.copyOf(vehicleIds, capacity);
+        }
+        ids[size] = id;
+        weights[size] = weight;
+        types[size] = type;
+        vehicleIds[size] = vehicleId;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // The arrays may be longer than size(); entries from size() on are unused
+    public int[] getIds() {
+        return ids;
+    }
+
+    public double[] getWeights() {
+        return weights;
+    }
+
+    public byte[] getTypes() {
+        return types;
+    }
+
+    public int[] getVehicleIds() {
+        return vehicleIds;
+    }
+}
@@ -1,5 +1,7 @@
 package com.logistics.repository;
 
+import com.logistics.datasource.ReadOnlyQuery;
+import com.logistics.datasource.ReadRouting;
 import com.logistics.exception.DatabaseOperationException;
 import com.logistics.exception.ResourceNotFoundException;
 import com.logistics.model.*;
@@ -9,9 +11,15 @@ import org.springframework.stereotype.Repository;
 
 import javax.sql.DataSource;
 import java.sql.*;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository for Shipment CRUD operations
@@ -20,24 +28,52 @@ import java.util.List;
 @Repository
 public class ShipmentRepository {
 
+    private static final String COLUMNS = "tracking_number, shipment_type, sender_name, " +
+            "recipient_name, origin, destination, weight, status, priority, " +
+            "estimated_delivery, vehicle_id, warehouse_id, is_fragile, " +
+            "temperature_controlled, customs_cleared";
+
+    // mapResultSetToShipment and ReactiveShipmentRepository read columns by position in this list
+    static final String SELECT_COLUMNS = "id, " + COLUMNS;
+
+    private static final int[] COLUMN_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DOUBLE, Types.VARCHAR, Types.VARCHAR, Types.DATE, Types.INTEGER, Types.INTEGER,
+            Types.BOOLEAN, Types.BOOLEAN, Types.BOOLEAN
+    };
+
+    private static final String INSERT_SQL = "INSERT INTO shipments (" + COLUMNS + ") " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Rows whose tracking number already exists or whose vehicle/warehouse
+    // is unknown are skipped instead of failing the whole load
+    private static final String BULK_MERGE_SQL = "INSERT INTO shipments (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM shipments_staging s " +
+            "WHERE (s.vehicle_id IS NULL OR EXISTS (SELECT 1 FROM vehicles v WHERE v.id = s.vehicle_id)) " +
+            "AND (s.warehouse_id IS NULL OR EXISTS (SELECT 1 FROM warehouses w WHERE w.id = s.warehouse_id)) " +
+            "ON CONFLICT (tracking_number) DO NOTHING";
+
     private final DataSource dataSource;
     private final ShipmentFactory shipmentFactory;
+    private final ShipmentCache cache;
+    private final TrackingNumberFilter trackingNumbers;
 
     @Autowired
-    public ShipmentRepository(DataSource dataSource, ShipmentFactory shipmentFactory) {
+    public ShipmentRepository(DataSource dataSource, ShipmentFactory shipmentFactory,
+                              ShipmentCache cache, TrackingNumberFilter trackingNumbers) {
         this.dataSource = dataSource;
         this.shipmentFactory = shipmentFactory;
+        this.cache = cache;
+        this.trackingNumbers = trackingNumbers;
     }
 
     public Shipment create(Shipment shipment) {
-        String sql = "INSERT INTO shipments (tracking_number, shipment_type, sender_name, " +
-                "recipient_name, origin, destination, weight, status, priority, " +
-                "estimated_delivery, vehicle_id, warehouse_id, is_fragile, " +
-                "temperature_controlled, customs_cleared) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        // Registered before the insert so a lookup never sees the row but misses the filter
+        trackingNumbers.beginWrite();
+        trackingNumbers.add(shipment.getTrackingNumber());
 
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
 
             setShipmentParameters(stmt, shipment);
 
@@ -58,19 +94,112 @@ public class ShipmentRepository {
 
         } catch (SQLException e) {
             throw new DatabaseOperationException("Error creating shipment: " + e.getMessage(), e);
+        } finally {
+            trackingNumbers.endWrite();
+        }
+    }
+
+    /**
+     * Inserts shipments with JDBC batches of chunkSize rows, one transaction per chunk.
+     * Inserted shipments get their generated id. Shipments whose tracking number is
+     * already stored are skipped and returned; any other row that the database rejects
+     * is left with a null id.
+     */
+    public Set<String> createAll(List<Shipment> shipments, int chunkSize) {
+        Set<String> duplicates = new HashSet<>();
+
+        trackingNumbers.beginWrite();
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int from = 0; from < shipments.size(); from += chunkSize) {
+                    List<Shipment> chunk = shipments.subList(from, Math.min(from + chunkSize, shipments.size()));
+                    Set<String> existing = findExistingTrackingNumbers(conn, chunk);
+                    duplicates.addAll(existing);
+
+                    List<Shipment> pending = new ArrayList<>(chunk.size());
+                    for (Shipment shipment : chunk) {
+                        if (!existing.contains(shipment.getTrackingNumber())) {
+                            trackingNumbers.add(shipment.getTrackingNumber());
+                            pending.add(shipment);
+                        }
+                    }
+
+                    try {
+                        insertChunk(conn, pending);
+                        conn.commit();
+                    } catch (SQLException e) {
+                        // A row was rejected (concurrent insert, bad foreign key...):
+                        // the whole chunk is void, so retry it row by row
+                        conn.rollback();
+                        for (Shipment shipment : pending) {
+                            shipment.setId(null);
+                        }
+                        insertOneByOne(conn, pending, duplicates);
+                    }
+                }
+            } finally {
+                // Completed chunks are already committed; only a failed one can be open
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+
+            return duplicates;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error creating shipments: " + e.getMessage(), e);
+        } finally {
+            trackingNumbers.endWrite();
+        }
+    }
+
+    /**
+     * Bulk loads shipments through PostgreSQL COPY into a staging table and
+     * merges them into shipments. Rows are pulled from the iterator as they are
+     * written, so the source is never held in memory.
+     */
+    public BulkLoadResult bulkLoad(Iterator<Shipment> shipments) {
+        Iterator<Object[]> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return shipments.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Shipment shipment = shipments.next();
+                trackingNumbers.add(shipment.getTrackingNumber());
+                return toColumnValues(shipment);
+            }
+        };
+
+        trackingNumbers.beginWrite();
+        try {
+            return CopyLoader.load(dataSource, "shipments", COLUMNS, BULK_MERGE_SQL, rows);
+        } finally {
+            trackingNumbers.endWrite();
         }
     }
 
-    public List<Shipment> findAll() {
-        String sql = "SELECT * FROM shipments ORDER BY id";
-        List<Shipment> shipments = new ArrayList<>();
+    /**
+     * Keyset page over all shipments: rows with id greater than afterId, in id order.
+     * afterId null starts from the first row.
+     */
+    @ReadOnlyQuery
+    public List<Shipment> findAll(Integer afterId, int limit) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE id > ? ORDER BY id LIMIT ?";
+        List<Shipment> shipments = new ArrayList<>(limit);
 
         try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            while (rs.next()) {
-                shipments.add(mapResultSetToShipment(rs));
+            stmt.setInt(1, afterId != null ? afterId : 0);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    shipments.add(mapResultSetToShipment(rs));
+                }
             }
 
             return shipments;
@@ -80,8 +209,119 @@ public class ShipmentRepository {
         }
     }
 
+    /**
+     * Streams every shipment in id order to the consumer, one row at a time.
+     * Uses a forward-only cursor so at most fetchSize rows are buffered by the driver.
+     */
+    @ReadOnlyQuery
+    public void streamAll(int fetchSize, Consumer<Shipment> consumer) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments ORDER BY id";
+        stream(sql, stmt -> { }, fetchSize, rs -> consumer.accept(mapResultSetToShipment(rs)),
+                "exporting shipments");
+    }
+
+    /**
+     * Id, weight, type and vehicle of every shipment with the given status, in id order,
+     * read straight into primitive arrays without building Shipment objects
+     */
+    @ReadOnlyQuery
+    public ShipmentLoads findLoadsByStatus(String status, int fetchSize) {
+        String sql = "SELECT id, weight, shipment_type, vehicle_id FROM shipments WHERE status = ? ORDER BY id";
+        ShipmentLoads loads = new ShipmentLoads(fetchSize);
+        // getInt reads a null vehicle_id as 0
+        stream(sql, stmt -> stmt.setString(1, status), fetchSize,
+                rs -> loads.add(rs.getInt(1), rs.getDouble(2), ShipmentLoads.typeCode(rs.getString(3)), rs.getInt(4)),
+                "loading shipment weights");
+        return loads;
+    }
+
+    /**
+     * Streams the shipments with the given status and no warehouse, in id order,
+     * through a forward-only cursor like {@link #streamAll}
+     */
+    @ReadOnlyQuery
+    public void streamWithoutWarehouse(String status, int fetchSize, Consumer<Shipment> consumer) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments " +
+                "WHERE status = ? AND warehouse_id IS NULL ORDER BY id";
+        stream(sql, stmt -> stmt.setString(1, status), fetchSize,
+                rs -> consumer.accept(mapResultSetToShipment(rs)), "fetching shipments");
+    }
+
+    /**
+     * Streams the shipments with the given status that have a vehicle, by
+     * vehicle and then id, through a forward-only cursor like {@link #streamAll}
+     */
+    @ReadOnlyQuery
+    public void streamAssignedToVehicles(String status, int fetchSize, Consumer<Shipment> consumer) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments " +
+                "WHERE status = ? AND vehicle_id IS NOT NULL ORDER BY vehicle_id, id";
+        stream(sql, stmt -> stmt.setString(1, status), fetchSize,
+                rs -> consumer.accept(mapResultSetToShipment(rs)), "fetching shipments");
+    }
+
+    /**
+     * Sets the vehicle of the first count shipments in one transaction, sent in
+     * JDBC batches of chunkSize rows. A vehicle id of 0 clears the assignment.
+     * Only shipments still in expectedStatus are changed, so one that moved on
+     * while the assignment was planned keeps its vehicle. Returns the number of
+     * shipments changed.
+     */
+    public int assignVehicles(int[] shipmentIds, int[] vehicleIds, int count, String expectedStatus, int chunkSize) {
+        String sql = "UPDATE shipments SET vehicle_id = ?, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? AND status = ?";
+        int updated = 0;
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int from = 0; from < count; from += chunkSize) {
+                    int to = Math.min(from + chunkSize, count);
+                    for (int i = from; i < to; i++) {
+                        if (vehicleIds[i] != 0) {
+                            stmt.setInt(1, vehicleIds[i]);
+                        } else {
+                            stmt.setNull(1, Types.INTEGER);
+                        }
+                        stmt.setInt(2, shipmentIds[i]);
+                        stmt.setString(3, expectedStatus);
+                        stmt.addBatch();
+                    }
+                    for (int rows : stmt.executeBatch()) {
+                        // SUCCESS_NO_INFO: the driver did not report the count
+                        updated += rows == Statement.SUCCESS_NO_INFO ? 1 : rows;
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                for (int i = 0; i < count; i++) {
+                    cache.invalidate(shipmentIds[i]);
+                }
+            }
+
+            return updated;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error assigning vehicles: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read-through: served from {@link ShipmentCache} when present.
+     * The returned shipment may be shared and must not be modified.
+     */
+    @ReadOnlyQuery
     public Shipment findById(Integer id) {
-        String sql = "SELECT * FROM shipments WHERE id = ?";
+        Shipment cached = cache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE id = ?";
+        long loadStamp = cache.beginLoad();
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -90,7 +330,9 @@ public class ShipmentRepository {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToShipment(rs);
+                    Shipment shipment = mapResultSetToShipment(rs);
+                    cache.put(shipment, loadStamp);
+                    return shipment;
                 } else {
                     throw new ResourceNotFoundException("Shipment not found with id: " + id);
                 }
@@ -101,8 +343,22 @@ public class ShipmentRepository {
         }
     }
 
+    /**
+     * Read-through: served from {@link ShipmentCache} when present.
+     * The returned shipment may be shared and must not be modified.
+     */
+    @ReadOnlyQuery
     public Shipment findByTrackingNumber(String trackingNumber) {
-        String sql = "SELECT * FROM shipments WHERE tracking_number = ?";
+        Shipment cached = cache.getByTrackingNumber(trackingNumber);
+        if (cached != null) {
+            return cached;
+        }
+        if (!trackingNumbers.mightContain(trackingNumber)) {
+            return ReadRouting.onPrimary(() -> findCreatedSince(trackingNumber, trackingNumbers.getMissingSince()));
+        }
+
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE tracking_number = ?";
+        long loadStamp = cache.beginLoad();
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -111,7 +367,9 @@ public class ShipmentRepository {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToShipment(rs);
+                    Shipment shipment = mapResultSetToShipment(rs);
+                    cache.put(shipment, loadStamp);
+                    return shipment;
                 } else {
                     throw new ResourceNotFoundException("Shipment not found with tracking number: " + trackingNumber);
                 }
@@ -122,6 +380,36 @@ public class ShipmentRepository {
         }
     }
 
+    /**
+     * Looks a tracking number the filter does not contain up among the rows
+     * the filter may be missing, and registers it if found
+     */
+    private Shipment findCreatedSince(String trackingNumber, Timestamp since) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE tracking_number = ? AND created_at >= ?";
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, trackingNumber);
+            stmt.setTimestamp(2, since);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    trackingNumbers.add(trackingNumber);
+                    return mapResultSetToShipment(rs);
+                }
+                throw new ResourceNotFoundException("Shipment not found with tracking number: " + trackingNumber);
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error finding shipment: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces the row and returns it as it was before. The row is locked
+     * first, so concurrent updates of one shipment each see the other's result.
+     */
     public Shipment update(Integer id, Shipment shipment) {
         String sql = "UPDATE shipments SET tracking_number = ?, shipment_type = ?, " +
                 "sender_name = ?, recipient_name = ?, origin = ?, destination = ?, " +
@@ -130,36 +418,60 @@ public class ShipmentRepository {
                 "temperature_controlled = ?, customs_cleared = ?, updated_at = CURRENT_TIMESTAMP " +
                 "WHERE id = ?";
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        trackingNumbers.beginWrite();
+        trackingNumbers.add(shipment.getTrackingNumber());
 
-            setShipmentParameters(stmt, shipment);
-            stmt.setInt(16, id);
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                Shipment before = lockById(conn, id);
 
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new ResourceNotFoundException("Shipment not found with id: " + id);
-            }
+                setShipmentParameters(stmt, shipment);
+                stmt.setInt(16, id);
+                stmt.executeUpdate();
+                conn.commit();
 
-            shipment.setId(id);
-            return shipment;
+                shipment.setId(id);
+                return before;
+
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                cache.invalidate(id);
+            }
 
         } catch (SQLException e) {
             throw new DatabaseOperationException("Error updating shipment: " + e.getMessage(), e);
+        } finally {
+            trackingNumbers.endWrite();
         }
     }
 
-    public void delete(Integer id) {
+    /**
+     * Deletes the row and returns it as it was
+     */
+    public Shipment delete(Integer id) {
         String sql = "DELETE FROM shipments WHERE id = ?";
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, id);
-
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) {
-                throw new ResourceNotFoundException("Shipment not found with id: " + id);
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                Shipment before = lockById(conn, id);
+
+                stmt.setInt(1, id);
+                stmt.executeUpdate();
+                conn.commit();
+                trackingNumbers.recordRemoval();
+                return before;
+
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                cache.invalidate(id);
             }
 
         } catch (SQLException e) {
@@ -167,14 +479,34 @@ public class ShipmentRepository {
         }
     }
 
-    public List<Shipment> findByStatus(String status) {
-        String sql = "SELECT * FROM shipments WHERE status = ? ORDER BY id";
-        List<Shipment> shipments = new ArrayList<>();
+    // Reads the row for the rest of the caller's transaction, holding off other writers of it
+    private Shipment lockById(Connection conn, Integer id) throws SQLException {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE id = ? FOR UPDATE";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new ResourceNotFoundException("Shipment not found with id: " + id);
+                }
+                return mapResultSetToShipment(rs);
+            }
+        }
+    }
+
+    /**
+     * Keyset page over shipments with the given status, in id order
+     */
+    @ReadOnlyQuery
+    public List<Shipment> findByStatus(String status, Integer afterId, int limit) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM shipments WHERE status = ? AND id > ? ORDER BY id LIMIT ?";
+        List<Shipment> shipments = new ArrayList<>(limit);
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, status);
+            stmt.setInt(2, afterId != null ? afterId : 0);
+            stmt.setInt(3, limit);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
@@ -189,86 +521,353 @@ public class ShipmentRepository {
         }
     }
 
-    private void setShipmentParameters(PreparedStatement stmt, Shipment shipment) throws SQLException {
-        stmt.setString(1, shipment.getTrackingNumber());
-        stmt.setString(2, shipment.getEntityType().replace("_SHIPMENT", ""));
-        stmt.setString(3, shipment.getSenderName());
-        stmt.setString(4, shipment.getRecipientName());
-        stmt.setString(5, shipment.getOrigin());
-        stmt.setString(6, shipment.getDestination());
-        stmt.setDouble(7, shipment.getWeight());
-        stmt.setString(8, shipment.getStatus());
-        stmt.setString(9, shipment.getPriority());
+    /**
+     * Returns up to limit shipments matching the criteria, in sort order, that come
+     * after the row keyed (afterValue, afterId); a null afterId starts at the first row.
+     * afterValue has the sort column's Java type: String, LocalDate or BigDecimal.
+     * Sorting by estimated delivery leaves out shipments without one.
+     */
+    @ReadOnlyQuery
+    public List<Shipment> search(ShipmentSearchCriteria criteria, Object afterValue, Integer afterId, int limit) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        addCondition(conditions, params, "status = ?", criteria.getStatus());
+        addCondition(conditions, params, "priority = ?", criteria.getPriority());
+        addCondition(conditions, params, "shipment_type = ?", criteria.getShipmentType());
+        addCondition(conditions, params, "origin = ?", criteria.getOrigin());
+        addCondition(conditions, params, "destination = ?", criteria.getDestination());
+        addCondition(conditions, params, "vehicle_id = ?", criteria.getVehicleId());
+        addCondition(conditions, params, "warehouse_id = ?", criteria.getWarehouseId());
+        addCondition(conditions, params, "estimated_delivery >= ?",
+                criteria.getDeliveryFrom() != null ? Date.valueOf(criteria.getDeliveryFrom()) : null);
+        addCondition(conditions, params, "estimated_delivery <= ?",
+                criteria.getDeliveryTo() != null ? Date.valueOf(criteria.getDeliveryTo()) : null);
+        addCondition(conditions, params, "weight >= ?", criteria.getMinWeight());
+        addCondition(conditions, params, "weight <= ?", criteria.getMaxWeight());
+
+        ShipmentSortField sortField = criteria.getSortField();
+        String column = sortField.getColumn();
+        String direction = criteria.isDescending() ? " DESC" : " ASC";
+        String comparison = criteria.isDescending() ? " < " : " > ";
+
+        if (sortField == ShipmentSortField.ESTIMATED_DELIVERY) {
+            conditions.add("estimated_delivery IS NOT NULL");
+        }
+        if (afterId != null) {
+            // Row value comparison keeps the seek a single range scan on (column, id)
+            if (sortField == ShipmentSortField.ID) {
+                conditions.add("id" + comparison + "?");
+            } else {
+                conditions.add("(" + column + ", id)" + comparison + "(?, ?)");
+                params.add(afterValue instanceof LocalDate ? Date.valueOf((LocalDate) afterValue) : afterValue);
+            }
+            params.add(afterId);
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT " + SELECT_COLUMNS + " FROM shipments");
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY ");
+        if (sortField != ShipmentSortField.ID) {
+            sql.append(column).append(direction).append(", ");
+        }
+        sql.append("id").append(direction).append(" LIMIT ?");
+        params.add(limit);
+
+        List<Shipment> shipments = new ArrayList<>(limit);
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    shipments.add(mapResultSetToShipment(rs));
+                }
+            }
+
+            return shipments;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error searching shipments: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Counts and weight sums for the statistics endpoint. All groupings are read
+     * in one repeatable-read transaction so they describe the same snapshot;
+     * onSnapshot runs once that snapshot is fixed, before the groupings are read.
+     */
+    public ShipmentTotals loadTotals(Runnable onSnapshot) {
+        ShipmentTotals totals = new ShipmentTotals();
+
+        try (Connection conn = dataSource.getConnection()) {
+            int isolation = conn.getTransactionIsolation();
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+            try {
+                // The first read fixes the snapshot; one that matches no rows is quick
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM shipments WHERE id = 0");
+                     ResultSet rs = stmt.executeQuery()) {
+                    rs.next();
+                }
+                onSnapshot.run();
+
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM shipments");
+                     ResultSet rs = stmt.executeQuery()) {
+                    totals.setTotal(rs.next() ? rs.getLong(1) : 0);
+                }
+                loadCounts(conn, "status", totals.getCountByStatus());
+                loadCounts(conn, "shipment_type", totals.getCountByType());
+                loadCounts(conn, "priority", totals.getCountByPriority());
+                loadWeights(conn, "warehouse_id", totals.getWeightByWarehouse());
+                loadWeights(conn, "vehicle_id", totals.getWeightByVehicle());
+            } finally {
+                conn.rollback();
+                conn.setReadOnly(false);
+                conn.setTransactionIsolation(isolation);
+                conn.setAutoCommit(true);
+            }
+
+            return totals;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error loading shipment totals: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs a query through a forward-only cursor, handing each row to the handler
+     * as it arrives so at most fetchSize rows are buffered by the driver
+     */
+    private void stream(String sql, StatementSetter setter, int fetchSize, RowHandler handler, String action) {
+        try (Connection conn = dataSource.getConnection()) {
+            // PostgreSQL only honours the fetch size inside a transaction;
+            // in autocommit mode it materializes the whole result set
+            conn.setAutoCommit(false);
+
+            try (PreparedStatement stmt = conn.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                stmt.setFetchSize(fetchSize);
+                setter.setValues(stmt);
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        handler.handle(rs);
+                    }
+                }
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error " + action + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void loadCounts(Connection conn, String column, Map<String, Long> counts) throws SQLException {
+        String sql = "SELECT " + column + ", COUNT(*) FROM shipments WHERE " + column + " IS NOT NULL GROUP BY " + column;
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                counts.put(rs.getString(1), rs.getLong(2));
+            }
+        }
+    }
+
+    private void loadWeights(Connection conn, String column, Map<Integer, BigDecimal> weights) throws SQLException {
+        String sql = "SELECT " + column + ", SUM(weight) FROM shipments WHERE " + column + " IS NOT NULL GROUP BY " + column;
+        try (PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                weights.put(rs.getInt(1), rs.getBigDecimal(2));
+            }
+        }
+    }
+
+    private static void addCondition(List<String> conditions, List<Object> params, String condition, Object value) {
+        if (value != null) {
+            conditions.add(condition);
+            params.add(value);
+        }
+    }
+
+    private Set<String> findExistingTrackingNumbers(Connection conn, List<Shipment> chunk) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT tracking_number FROM shipments WHERE tracking_number IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")");
 
-        if (shipment.getEstimatedDelivery() != null) {
-            stmt.setDate(10, Date.valueOf(shipment.getEstimatedDelivery()));
-        } else {
-            stmt.setNull(10, Types.DATE);
+        Set<String> existing = new HashSet<>();
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < chunk.size(); i++) {
+                stmt.setString(i + 1, chunk.get(i).getTrackingNumber());
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString(1));
+                }
+            }
         }
+        return existing;
+    }
 
-        if (shipment.getVehicleId() != null) {
-            stmt.setInt(11, shipment.getVehicleId());
-        } else {
-            stmt.setNull(11, Types.INTEGER);
+    private void insertChunk(Connection conn, List<Shipment> chunk) throws SQLException {
+        if (chunk.isEmpty()) {
+            return;
         }
 
-        if (shipment.getWarehouseId() != null) {
-            stmt.setInt(12, shipment.getWarehouseId());
-        } else {
-            stmt.setNull(12, Types.INTEGER);
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+            for (Shipment shipment : chunk) {
+                setShipmentParameters(stmt, shipment);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+
+            // Keys come back in the order the rows were added to the batch
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                for (Shipment shipment : chunk) {
+                    if (!generatedKeys.next()) {
+                        throw new DatabaseOperationException("Creating shipments failed, no ID obtained");
+                    }
+                    shipment.setId(generatedKeys.getInt(1));
+                }
+            }
         }
+    }
+
+    private void insertOneByOne(Connection conn, List<Shipment> chunk, Set<String> duplicates) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+            for (Shipment shipment : chunk) {
+                try {
+                    setShipmentParameters(stmt, shipment);
+                    stmt.executeUpdate();
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            shipment.setId(generatedKeys.getInt(1));
+                        }
+                    }
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    shipment.setId(null);
+                    if (isUniqueViolation(e)) {
+                        duplicates.add(shipment.getTrackingNumber());
+                    } else if (!isIntegrityViolation(e)) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isIntegrityViolation(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+
+    private boolean isUniqueViolation(SQLException e) {
+        // 23505 is PostgreSQL's unique_violation, 1062 is MySQL's ER_DUP_ENTRY
+        return "23505".equals(e.getSQLState()) || e.getErrorCode() == 1062;
+    }
+
+    private void setShipmentParameters(PreparedStatement stmt, Shipment shipment) throws SQLException {
+        Object[] values = toColumnValues(shipment);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                stmt.setObject(i + 1, values[i], COLUMN_TYPES[i]);
+            } else {
+                stmt.setNull(i + 1, COLUMN_TYPES[i]);
+            }
+        }
+    }
+
+    /**
+     * Values for {@link #COLUMNS}, in order. Shared by the INSERT/UPDATE
+     * statements and the COPY bulk loader so both store shipments the same way.
+     */
+    private Object[] toColumnValues(Shipment shipment) {
+        Object[] values = new Object[15];
+        values[0] = shipment.getTrackingNumber();
+        values[1] = shipment.getEntityType().replace("_SHIPMENT", "");
+        values[2] = shipment.getSenderName();
+        values[3] = shipment.getRecipientName();
+        values[4] = shipment.getOrigin();
+        values[5] = shipment.getDestination();
+        values[6] = shipment.getWeight();
+        values[7] = shipment.getStatus();
+        values[8] = shipment.getPriority();
+        values[9] = shipment.getEstimatedDelivery() != null ? Date.valueOf(shipment.getEstimatedDelivery()) : null;
+        values[10] = shipment.getVehicleId();
+        values[11] = shipment.getWarehouseId();
 
         // Type-specific attributes
-        if (shipment instanceof ExpressShipment) {
-            stmt.setBoolean(13, ((ExpressShipment) shipment).isFragile());
-            stmt.setBoolean(14, false);
-            stmt.setBoolean(15, false);
-        } else if (shipment instanceof StandardShipment) {
-            stmt.setBoolean(13, false);
-            stmt.setBoolean(14, ((StandardShipment) shipment).isTemperatureControlled());
-            stmt.setBoolean(15, false);
-        } else if (shipment instanceof EconomyShipment) {
-            stmt.setBoolean(13, false);
-            stmt.setBoolean(14, false);
-            stmt.setBoolean(15, ((EconomyShipment) shipment).isCustomsCleared());
-        } else {
-            stmt.setBoolean(13, false);
-            stmt.setBoolean(14, false);
-            stmt.setBoolean(15, false);
-        }
-    }
-
-    private Shipment mapResultSetToShipment(ResultSet rs) throws SQLException {
-        String type = rs.getString("shipment_type");
-        Shipment shipment = shipmentFactory.createShipment(type);
-
-        shipment.setId(rs.getInt("id"));
-        shipment.setTrackingNumber(rs.getString("tracking_number"));
-        shipment.setSenderName(rs.getString("sender_name"));
-        shipment.setRecipientName(rs.getString("recipient_name"));
-        shipment.setOrigin(rs.getString("origin"));
-        shipment.setDestination(rs.getString("destination"));
-        shipment.setWeight(rs.getDouble("weight"));
-        shipment.setStatus(rs.getString("status"));
-        shipment.setPriority(rs.getString("priority"));
-
-        Date estimatedDelivery = rs.getDate("estimated_delivery");
+        values[12] = shipment instanceof ExpressShipment && ((ExpressShipment) shipment).isFragile();
+        values[13] = shipment instanceof StandardShipment && ((StandardShipment) shipment).isTemperatureControlled();
+        values[14] = shipment instanceof EconomyShipment && ((EconomyShipment) shipment).isCustomsCleared();
+
+        return values;
+    }
+
+    /**
+     * Maps a row selected with {@link #SELECT_COLUMNS} by column position,
+     * avoiding a by-name column lookup for every field of every row.
+     * Package-private for the row mapping benchmark.
+     */
+    Shipment mapResultSetToShipment(ResultSet rs) throws SQLException {
+        Shipment shipment = shipmentFactory.createShipment(rs.getString(3));
+
+        shipment.setId(rs.getInt(1));
+        shipment.setTrackingNumber(rs.getString(2));
+        shipment.setSenderName(rs.getString(4));
+        shipment.setRecipientName(rs.getString(5));
+        shipment.setOrigin(rs.getString(6));
+        shipment.setDestination(rs.getString(7));
+        shipment.setWeight(rs.getDouble(8));
+        shipment.setStatus(rs.getString(9));
+        shipment.setPriority(rs.getString(10));
+
+        Date estimatedDelivery = rs.getDate(11);
         if (estimatedDelivery != null) {
             shipment.setEstimatedDelivery(estimatedDelivery.toLocalDate());
         }
 
-        shipment.setVehicleId((Integer) rs.getObject("vehicle_id"));
-        shipment.setWarehouseId((Integer) rs.getObject("warehouse_id"));
+        int vehicleId = rs.getInt(12);
+        shipment.setVehicleId(rs.wasNull() ? null : vehicleId);
+        int warehouseId = rs.getInt(13);
+        shipment.setWarehouseId(rs.wasNull() ? null : warehouseId);
 
         // Set type-specific attributes
         if (shipment instanceof ExpressShipment) {
-            ((ExpressShipment) shipment).setFragile(rs.getBoolean("is_fragile"));
+            ((ExpressShipment) shipment).setFragile(rs.getBoolean(14));
         } else if (shipment instanceof StandardShipment) {
-            ((StandardShipment) shipment).setTemperatureControlled(rs.getBoolean("temperature_controlled"));
+            ((StandardShipment) shipment).setTemperatureControlled(rs.getBoolean(15));
         } else if (shipment instanceof EconomyShipment) {
-            ((EconomyShipment) shipment).setCustomsCleared(rs.getBoolean("customs_cleared"));
+            ((EconomyShipment) shipment).setCustomsCleared(rs.getBoolean(16));
         }
 
         return shipment;
     }
+
+    /**
+     * Binds the parameters of a streamed query
+     */
+    private interface StatementSetter {
+        void setValues(PreparedStatement stmt) throws SQLException;
+    }
+
+    /**
+     * Handles one row of a streamed query
+     */
+    private interface RowHandler {
+        void handle(ResultSet rs) throws SQLException;
+    }
 }
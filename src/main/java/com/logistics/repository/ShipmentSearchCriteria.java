@@ -0,0 +1,128 @@
+package com.logistics.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Filters and ordering of a shipment search; null filters are not applied
+ */
+public class ShipmentSearchCriteria {
+    private String status;
+    private String priority;
+    private String shipmentType;
+    private String origin;
+    private String destination;
+    private Integer vehicleId;
+    private Integer warehouseId;
+    private LocalDate deliveryFrom;
+    private LocalDate deliveryTo;
+    private BigDecimal minWeight;
+    private BigDecimal maxWeight;
+    private ShipmentSortField sortField = ShipmentSortField.ID;
+    private boolean descending;
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public String getShipmentType() {
+        return shipmentType;
+    }
+
+    public void setShipmentType(String shipmentType) {
+        this.shipmentType = shipmentType;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+
+    public Integer getVehicleId() {
+        return vehicleId;
+    }
+
+    public void setVehicleId(Integer vehicleId) {
+        this.vehicleId = vehicleId;
+    }
+
+    public Integer getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Integer warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public LocalDate getDeliveryFrom() {
+        return deliveryFrom;
+    }
+
+    public void setDeliveryFrom(LocalDate deliveryFrom) {
+        this.deliveryFrom = deliveryFrom;
+    }
+
+    public LocalDate getDeliveryTo() {
+        return deliveryTo;
+    }
+
+    public void setDeliveryTo(LocalDate deliveryTo) {
+        this.deliveryTo = deliveryTo;
+    }
+
+    public BigDecimal getMinWeight() {
+        return minWeight;
+    }
+
+    public void setMinWeight(BigDecimal minWeight) {
+        this.minWeight = minWeight;
+    }
+
+    public BigDecimal getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(BigDecimal maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public ShipmentSortField getSortField() {
+        return sortField;
+    }
+
+    public void setSortField(ShipmentSortField sortField) {
+        this.sortField = sortField;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public void setDescending(boolean descending) {
+        this.descending = descending;
+    }
+}
@@ -0,0 +1,42 @@
+package com.logistics.repository;
+
+/**
+ * Columns shipment searches can be ordered by
+ *
+ * Every sort is made unique by id, so (sort column, id) is a stable key
+ * for keyset pagination.
+ */
+public enum ShipmentSortField {
+    ID("id", "id"),
+    TRACKING_NUMBER("trackingNumber", "tracking_number"),
+    ESTIMATED_DELIVERY("estimatedDelivery", "estimated_delivery"),
+    WEIGHT("weight", "weight");
+
+    private final String property;
+    private final String column;
+
+    ShipmentSortField(String property, String column) {
+        this.property = property;
+        this.column = column;
+    }
+
+    /**
+     * Returns the field for a DTO property name, or null if it is not sortable
+     */
+    public static ShipmentSortField fromProperty(String property) {
+        for (ShipmentSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,47 @@
+package com.logistics.repository;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shipment counts and weight sums grouped by the columns the statistics
+ * endpoint reports, read from one consistent snapshot of the table.
+ * Rows with a null grouping value are not counted in that grouping.
+ */
+public class ShipmentTotals {
+    private final Map<String, Long> countByStatus = new HashMap<>();
+    private final Map<String, Long> countByType = new HashMap<>();
+    private final Map<String, Long> countByPriority = new HashMap<>();
+    private final Map<Integer, BigDecimal> weightByWarehouse = new HashMap<>();
+    private final Map<Integer, BigDecimal> weightByVehicle = new HashMap<>();
+    private long total;
+
+    public long getTotal() {
+        return total;
+    }
+
+    void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getCountByStatus() {
+        return countByStatus;
+    }
+
+    public Map<String, Long> getCountByType() {
+        return countByType;
+    }
+
+    public Map<String, Long> getCountByPriority() {
+        return countByPriority;
+    }
+
+    public Map<Integer, BigDecimal> getWeightByWarehouse() {
+        return weightByWarehouse;
+    }
+
+    public Map<Integer, BigDecimal> getWeightByVehicle() {
+        return weightByVehicle;
+    }
+}
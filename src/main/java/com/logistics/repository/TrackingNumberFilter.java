@@ -0,0 +1,215 @@
+package com.logistics.repository;
+
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bloom filter of every stored tracking number, so lookups for unknown
+ * tracking numbers can be answered without a query
+ *
+ * Writers register tracking numbers before inserting them, inside
+ * beginWrite/endWrite. Rows inserted any other way (another instance, SQL
+ * outside this repository) are missing until the next rebuild, so a number
+ * the filter does not contain is still looked up among the rows created
+ * since {@link #getMissingSince}. Deleted numbers cannot be cleared from a
+ * Bloom filter; they only cause extra queries until the next rebuild, which
+ * runs at startup, every TRACKING_FILTER_REBUILD_INTERVAL_SECONDS, when too
+ * many deletes pile up and when the filter fills up. Until the first build
+ * finishes every number is reported as possibly present.
+ */
+@Component
+public class TrackingNumberFilter {
+
+    private final DataSource dataSource;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    // Writers hold the read lock; a rebuild takes the write lock to swap filters
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tracking-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final AtomicLong removals = new AtomicLong();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    // Rows created from here on may be missing from current
+    private volatile Timestamp missingSince;
+
+    @Autowired
+    public TrackingNumberFilter(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    /**
+     * False means the tracking number is definitely not stored
+     */
+    public boolean mightContain(String trackingNumber) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(trackingNumber);
+    }
+
+    /**
+     * Database time from which rows not inserted through this repository
+     * may be missing: the start of the current filter's load, less
+     * TRACKING_FILTER_PROBE_MARGIN_SECONDS for inserts that were still
+     * uncommitted then. Null until the first build finishes.
+     */
+    public Timestamp getMissingSince() {
+        return missingSince;
+    }
+
+    /**
+     * Must be called before writing rows whose tracking numbers are passed to {@link #add},
+     * and paired with {@link #endWrite} once the write has committed or failed
+     */
+    public void beginWrite() {
+        lock.readLock().lock();
+    }
+
+    public void endWrite() {
+        lock.readLock().unlock();
+    }
+
+    public void add(String trackingNumber) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(trackingNumber);
+            if (filter.isSaturated()) {
+                scheduleRebuild();
+            }
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(trackingNumber);
+        }
+    }
+
+    public void recordRemoval() {
+        BloomFilter filter = current;
+        double maxStaleRatio = config.getDoubleConfig("TRACKING_FILTER_MAX_STALE_RATIO", 0.2);
+        if (filter != null && removals.incrementAndGet() > filter.getInsertions() * maxStaleRatio) {
+            scheduleRebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedulePeriodicRebuild() {
+        long interval = config.getIntConfig("TRACKING_FILTER_REBUILD_INTERVAL_SECONDS", 300);
+        rebuilder.scheduleWithFixedDelay(this::scheduleRebuild, 0, interval, TimeUnit.SECONDS);
+    }
+
+    public void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuilder.execute(this::rebuild);
+        }
+    }
+
+    private void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            long minCapacity = config.getIntConfig("TRACKING_FILTER_MIN_CAPACITY", 1000000);
+            double falsePositiveRate = config.getDoubleConfig("TRACKING_FILTER_FALSE_POSITIVE_RATE", 0.01);
+
+            // Size for twice the current row count so the filter has room to grow
+            BloomFilter fresh = new BloomFilter(Math.max(minCapacity, countRows() * 2), falsePositiveRate);
+
+            // Waits for in-flight writes: any write that starts later also lands in the new filter
+            lock.writeLock().lock();
+            try {
+                building = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Timestamp loadStarted = databaseTime();
+            long loaded = loadTrackingNumbers(fresh);
+
+            lock.writeLock().lock();
+            try {
+                // Set first: a reader that sees the new filter must see its probe time
+                missingSince = new Timestamp(loadStarted.getTime()
+                        - config.getIntConfig("TRACKING_FILTER_PROBE_MARGIN_SECONDS", 60) * 1000L);
+                current = fresh;
+                building = null;
+                removals.set(0);
+                rebuildScheduled.set(false);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            loggingService.info("Tracking number filter rebuilt with {} entries ({} KB) in {} ms",
+                    loaded, fresh.getSizeInBytes() / 1024, System.currentTimeMillis() - started);
+
+        } catch (SQLException | RuntimeException e) {
+            building = null;
+            rebuildScheduled.set(false);
+            loggingService.error("Tracking number filter rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private Timestamp databaseTime() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT CURRENT_TIMESTAMP");
+             ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return rs.getTimestamp(1);
+        }
+    }
+
+    private long countRows() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM shipments");
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private long loadTrackingNumbers(BloomFilter filter) throws SQLException {
+        String sql = "SELECT tracking_number FROM shipments";
+        long loaded = 0;
+
+        try (Connection conn = dataSource.getConnection()) {
+            // Stream the column with a forward-only cursor instead of materializing it
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+                stmt.setFetchSize(config.getIntConfig("EXPORT_FETCH_SIZE", 1000));
+
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        filter.put(rs.getString(1));
+                        loaded++;
+                    }
+                }
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+        }
+        return loaded;
+    }
+}
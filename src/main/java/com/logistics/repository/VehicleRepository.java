@@ -1,5 +1,6 @@
 package com.logistics.repository;
 
+import com.logistics.datasource.ReadOnlyQuery;
 import com.logistics.exception.DatabaseOperationException;
 import com.logistics.exception.ResourceNotFoundException;
 import com.logistics.model.*;
@@ -10,11 +11,27 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 @Repository
 public class VehicleRepository {
 
+    private static final String COLUMNS = "vehicle_type, name, license_plate, capacity, status, " +
+            "max_altitude, cargo_type, fuel_type";
+
+    // mapResultSetToVehicle reads columns by position in this list
+    private static final String SELECT_COLUMNS = "id, " + COLUMNS;
+
+    private static final int[] COLUMN_TYPES = {
+            Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.VARCHAR,
+            Types.INTEGER, Types.VARCHAR, Types.VARCHAR
+    };
+
+    private static final String BULK_MERGE_SQL = "INSERT INTO vehicles (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM vehicles_staging " +
+            "ON CONFLICT (license_plate) DO NOTHING";
+
     private final DataSource dataSource;
     private final VehicleFactory vehicleFactory;
 
@@ -25,8 +42,7 @@ public class VehicleRepository {
     }
 
     public Vehicle create(Vehicle vehicle) {
-        String sql = "INSERT INTO vehicles (vehicle_type, name, license_plate, capacity, status, " +
-                "max_altitude, cargo_type, fuel_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = "INSERT INTO vehicles (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
@@ -46,8 +62,27 @@ public class VehicleRepository {
         }
     }
 
+    /**
+     * Bulk loads vehicles through PostgreSQL COPY; existing license plates are skipped
+     */
+    public BulkLoadResult bulkLoad(Iterator<Vehicle> vehicles) {
+        Iterator<Object[]> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return vehicles.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                return toColumnValues(vehicles.next());
+            }
+        };
+        return CopyLoader.load(dataSource, "vehicles", COLUMNS, BULK_MERGE_SQL, rows);
+    }
+
+    @ReadOnlyQuery
     public List<Vehicle> findAll() {
-        String sql = "SELECT * FROM vehicles ORDER BY id";
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM vehicles ORDER BY id";
         List<Vehicle> vehicles = new ArrayList<>();
 
         try (Connection conn = dataSource.getConnection();
@@ -64,8 +99,30 @@ public class VehicleRepository {
         }
     }
 
+    @ReadOnlyQuery
+    public List<Vehicle> findByStatus(String status) {
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM vehicles WHERE status = ? ORDER BY id";
+        List<Vehicle> vehicles = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, status);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    vehicles.add(mapResultSetToVehicle(rs));
+                }
+            }
+            return vehicles;
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error fetching vehicles: " + e.getMessage(), e);
+        }
+    }
+
+    @ReadOnlyQuery
     public Vehicle findById(Integer id) {
-        String sql = "SELECT * FROM vehicles WHERE id = ?";
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM vehicles WHERE id = ?";
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -123,43 +180,58 @@ public class VehicleRepository {
     }
 
     private void setVehicleParameters(PreparedStatement stmt, Vehicle vehicle) throws SQLException {
-        stmt.setString(1, vehicle.getVehicleType());
-        stmt.setString(2, vehicle.getName());
-        stmt.setString(3, vehicle.getLicensePlate());
-        stmt.setDouble(4, vehicle.getCapacity());
-        stmt.setString(5, vehicle.getStatus());
+        Object[] values = toColumnValues(vehicle);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                stmt.setObject(i + 1, values[i], COLUMN_TYPES[i]);
+            } else {
+                stmt.setNull(i + 1, COLUMN_TYPES[i]);
+            }
+        }
+    }
+
+    /**
+     * Values for {@link #COLUMNS}, in order; shared by INSERT/UPDATE and the COPY bulk loader
+     */
+    private Object[] toColumnValues(Vehicle vehicle) {
+        Object[] values = new Object[8];
+        values[0] = vehicle.getVehicleType();
+        values[1] = vehicle.getName();
+        values[2] = vehicle.getLicensePlate();
+        values[3] = vehicle.getCapacity();
+        values[4] = vehicle.getStatus();
 
         if (vehicle instanceof AirVehicle) {
-            stmt.setObject(6, ((AirVehicle) vehicle).getMaxAltitude());
-            stmt.setNull(7, Types.VARCHAR);
-            stmt.setNull(8, Types.VARCHAR);
+            values[5] = ((AirVehicle) vehicle).getMaxAltitude();
         } else if (vehicle instanceof SeaVehicle) {
-            stmt.setNull(6, Types.INTEGER);
-            stmt.setString(7, ((SeaVehicle) vehicle).getCargoType());
-            stmt.setNull(8, Types.VARCHAR);
+            values[6] = ((SeaVehicle) vehicle).getCargoType();
         } else if (vehicle instanceof LandVehicle) {
-            stmt.setNull(6, Types.INTEGER);
-            stmt.setNull(7, Types.VARCHAR);
-            stmt.setString(8, ((LandVehicle) vehicle).getFuelType());
+            values[7] = ((LandVehicle) vehicle).getFuelType();
         }
+
+        return values;
     }
 
-    private Vehicle mapResultSetToVehicle(ResultSet rs) throws SQLException {
-        String type = rs.getString("vehicle_type");
-        Vehicle vehicle = vehicleFactory.createVehicle(type);
+    /**
+     * Maps a row selected with {@link #SELECT_COLUMNS} by column position.
+     * Package-private for the row mapping benchmark.
+     */
+    Vehicle mapResultSetToVehicle(ResultSet rs) throws SQLException {
+        Vehicle vehicle = vehicleFactory.createVehicle(rs.getString(2));
 
-        vehicle.setId(rs.getInt("id"));
-        vehicle.setName(rs.getString("name"));
-        vehicle.setLicensePlate(rs.getString("license_plate"));
-        vehicle.setCapacity(rs.getDouble("capacity"));
-        vehicle.setStatus(rs.getString("status"));
+        vehicle.setId(rs.getInt(1));
+        vehicle.setName(rs.getString(3));
+        vehicle.setLicensePlate(rs.getString(4));
+        vehicle.setCapacity(rs.getDouble(5));
+        vehicle.setStatus(rs.getString(6));
 
         if (vehicle instanceof AirVehicle) {
-            ((AirVehicle) vehicle).setMaxAltitude((Integer) rs.getObject("max_altitude"));
+            int maxAltitude = rs.getInt(7);
+            ((AirVehicle) vehicle).setMaxAltitude(rs.wasNull() ? null : maxAltitude);
         } else if (vehicle instanceof SeaVehicle) {
-            ((SeaVehicle) vehicle).setCargoType(rs.getString("cargo_type"));
+            ((SeaVehicle) vehicle).setCargoType(rs.getString(8));
         } else if (vehicle instanceof LandVehicle) {
-            ((LandVehicle) vehicle).setFuelType(rs.getString("fuel_type"));
+            ((LandVehicle) vehicle).setFuelType(rs.getString(9));
         }
 
         return vehicle;
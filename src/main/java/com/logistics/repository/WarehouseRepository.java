@@ -1,5 +1,6 @@
 package com.logistics.repository;
 
+import com.logistics.datasource.ReadOnlyQuery;
 import com.logistics.exception.DatabaseOperationException;
 import com.logistics.exception.ResourceNotFoundException;
 import com.logistics.model.Warehouse;
@@ -9,16 +10,27 @@ import org.springframework.stereotype.Repository;
 import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 @Repository
 public class WarehouseRepository {
 
+    private static final String COLUMNS = "name, location, capacity, current_load";
+
+    // mapResultSetToWarehouse reads columns by position in this list
+    private static final String SELECT_COLUMNS = "id, " + COLUMNS;
+
+    private static final String BULK_MERGE_SQL = "INSERT INTO warehouses (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM warehouses_staging";
+
     private final DataSource dataSource;
+    private final ShipmentCache shipmentCache;
 
     @Autowired
-    public WarehouseRepository(DataSource dataSource) {
+    public WarehouseRepository(DataSource dataSource, ShipmentCache shipmentCache) {
         this.dataSource = dataSource;
+        this.shipmentCache = shipmentCache;
     }
 
     public Warehouse create(Warehouse warehouse) {
@@ -45,8 +57,29 @@ public class WarehouseRepository {
         }
     }
 
+    /**
+     * Bulk loads warehouses through PostgreSQL COPY
+     */
+    public BulkLoadResult bulkLoad(Iterator<Warehouse> warehouses) {
+        Iterator<Object[]> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return warehouses.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Warehouse warehouse = warehouses.next();
+                return new Object[]{warehouse.getName(), warehouse.getLocation(),
+                        warehouse.getCapacity(), warehouse.getCurrentLoad()};
+            }
+        };
+        return CopyLoader.load(dataSource, "warehouses", COLUMNS, BULK_MERGE_SQL, rows);
+    }
+
+    @ReadOnlyQuery
     public List<Warehouse> findAll() {
-        String sql = "SELECT * FROM warehouses ORDER BY id";
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM warehouses ORDER BY id";
         List<Warehouse> warehouses = new ArrayList<>();
 
         try (Connection conn = dataSource.getConnection();
@@ -63,8 +96,9 @@ public class WarehouseRepository {
         }
     }
 
+    @ReadOnlyQuery
     public Warehouse findById(Integer id) {
-        String sql = "SELECT * FROM warehouses WHERE id = ?";
+        String sql = "SELECT " + SELECT_COLUMNS + " FROM warehouses WHERE id = ?";
 
         try (Connection conn = dataSource.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -123,13 +157,155 @@ public class WarehouseRepository {
         }
     }
 
-    private Warehouse mapResultSetToWarehouse(ResultSet rs) throws SQLException {
+    /**
+     * Adds delta, negative to take load out, to a warehouse's current load in
+     * one conditional update, and returns the warehouse as updated. The update
+     * only matches while the load plus lowest stays at or above zero and the
+     * load plus highest stays within the capacity; for a single change both are
+     * delta. Returns null if it does not match, or if there is no such warehouse.
+     *
+     * The row is read back in the update's transaction, so the returned load
+     * is the one this update produced.
+     */
+    public Warehouse adjustLoad(Integer id, int delta, int lowest, int highest) {
+        String updateSql = "UPDATE warehouses SET current_load = COALESCE(current_load, 0) + ? " +
+                "WHERE id = ? AND COALESCE(current_load, 0) + ? >= 0 AND COALESCE(current_load, 0) + ? <= capacity";
+        String selectSql = "SELECT " + SELECT_COLUMNS + " FROM warehouses WHERE id = ?";
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement update = conn.prepareStatement(updateSql);
+                 PreparedStatement select = conn.prepareStatement(selectSql)) {
+                update.setInt(1, delta);
+                update.setInt(2, id);
+                update.setInt(3, lowest);
+                update.setInt(4, highest);
+                if (update.executeUpdate() == 0) {
+                    return null;
+                }
+
+                select.setInt(1, id);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    Warehouse warehouse = mapResultSetToWarehouse(rs);
+                    conn.commit();
+                    return warehouse;
+                }
+            } finally {
+                // Nothing to undo once committed; discards a miss or a failure
+                conn.rollback();
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error adjusting warehouse load: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies an allocation plan in one transaction: adds addedLoads[i] to the
+     * current load of warehouse warehouseIds[i], and places shipment shipmentIds[j]
+     * in warehouse shipmentWarehouseIds[j]. Each warehouse only takes its load if
+     * it still has room, and each shipment only moves if it is still in
+     * expectedStatus and has no warehouse. If either check fails, for instance
+     * because another allocation committed first, nothing is changed and false
+     * is returned.
+     *
+     * Warehouses are updated in the order given; callers that may run
+     * concurrently should pass them sorted by id so they lock rows in the same
+     * order.
+     */
+    public boolean allocate(int[] warehouseIds, int[] addedLoads, int warehouseCount, int[] shipmentIds,
+                            int[] shipmentWarehouseIds, int shipmentCount, String expectedStatus, int chunkSize) {
+        String loadSql = "UPDATE warehouses SET current_load = COALESCE(current_load, 0) + ? " +
+                "WHERE id = ? AND COALESCE(current_load, 0) + ? <= capacity";
+        String shipmentSql = "UPDATE shipments SET warehouse_id = ?, updated_at = CURRENT_TIMESTAMP " +
+                "WHERE id = ? AND status = ? AND warehouse_id IS NULL";
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            boolean applied = false;
+            try {
+                // The row lock taken by each update holds off other allocators until commit
+                try (PreparedStatement stmt = conn.prepareStatement(loadSql)) {
+                    for (int i = 0; i < warehouseCount; i++) {
+                        stmt.setInt(1, addedLoads[i]);
+                        stmt.setInt(2, warehouseIds[i]);
+                        stmt.setInt(3, addedLoads[i]);
+                        if (stmt.executeUpdate() == 0) {
+                            return false;
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement(shipmentSql)) {
+                    for (int from = 0; from < shipmentCount; from += chunkSize) {
+                        int to = Math.min(from + chunkSize, shipmentCount);
+                        Savepoint chunk = conn.setSavepoint();
+                        for (int j = from; j < to; j++) {
+                            setShipmentParameters(stmt, shipmentIds[j], shipmentWarehouseIds[j], expectedStatus);
+                            stmt.addBatch();
+                        }
+                        boolean counted = true;
+                        for (int rows : stmt.executeBatch()) {
+                            if (rows == 0) {
+                                return false;
+                            }
+                            counted &= rows != Statement.SUCCESS_NO_INFO;
+                        }
+                        if (!counted) {
+                            // The driver did not report which rows matched; redo the chunk row by row
+                            conn.rollback(chunk);
+                            for (int j = from; j < to; j++) {
+                                setShipmentParameters(stmt, shipmentIds[j], shipmentWarehouseIds[j], expectedStatus);
+                                if (stmt.executeUpdate() == 0) {
+                                    return false;
+                                }
+                            }
+                        }
+                        conn.releaseSavepoint(chunk);
+                    }
+                }
+
+                conn.commit();
+                applied = true;
+                return true;
+
+            } finally {
+                if (!applied) {
+                    conn.rollback();
+                }
+                conn.setAutoCommit(true);
+                if (applied) {
+                    for (int j = 0; j < shipmentCount; j++) {
+                        shipmentCache.invalidate(shipmentIds[j]);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new DatabaseOperationException("Error allocating shipments to warehouses: " + e.getMessage(), e);
+        }
+    }
+
+    private static void setShipmentParameters(PreparedStatement stmt, int shipmentId, int warehouseId,
+                                              String expectedStatus) throws SQLException {
+        stmt.setInt(1, warehouseId);
+        stmt.setInt(2, shipmentId);
+        stmt.setString(3, expectedStatus);
+    }
+
+    /**
+     * Maps a row selected with {@link #SELECT_COLUMNS} by column position.
+     * Package-private for the row mapping benchmark.
+     */
+    Warehouse mapResultSetToWarehouse(ResultSet rs) throws SQLException {
         Warehouse warehouse = new Warehouse();
-        warehouse.setId(rs.getInt("id"));
-        warehouse.setName(rs.getString("name"));
-        warehouse.setLocation(rs.getString("location"));
-        warehouse.setCapacity(rs.getInt("capacity"));
-        warehouse.setCurrentLoad(rs.getInt("current_load"));
+        warehouse.setId(rs.getInt(1));
+        warehouse.setName(rs.getString(2));
+        warehouse.setLocation(rs.getString(3));
+        warehouse.setCapacity(rs.getInt(4));
+        warehouse.setCurrentLoad(rs.getInt(5));
         return warehouse;
     }
 }
@@ -0,0 +1,185 @@
+package com.logistics.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.logistics.exception.InvalidInputException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads bulk import records one at a time from a CSV or NDJSON stream
+ *
+ * CSV needs a header row naming the DTO properties (e.g. trackingNumber);
+ * NDJSON has one DTO object per line. Both are bound through Jackson so
+ * they accept exactly what the JSON API accepts.
+ */
+class BulkRecordReader<T> implements Closeable {
+
+    static final String CSV = "text/csv";
+    static final String NDJSON = "application/x-ndjson";
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+
+    private String[] header;
+    private long lineNumber;
+    private long recordLine;
+
+    BulkRecordReader(InputStream in, String contentType, Class<T> type, ObjectMapper objectMapper) {
+        this.csv = isCsv(contentType);
+        if (!csv && !isNdjson(contentType)) {
+            throw new InvalidInputException("Unsupported import format: " + contentType
+                    + " (expected " + CSV + " or " + NDJSON + ")");
+        }
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.type = type;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the next record, or null at end of input
+     *
+     * @throws InvalidInputException if the record is malformed; reading can continue
+     */
+    T next() throws IOException {
+        return csv ? nextCsv() : nextNdjson();
+    }
+
+    /**
+     * Line on which the record last returned (or rejected) by {@link #next} starts
+     */
+    long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private T nextNdjson() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        recordLine = lineNumber;
+        try {
+            return objectMapper.readValue(line, type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidInputException("Malformed record: " + e.getOriginalMessage());
+        }
+    }
+
+    private T nextCsv() throws IOException {
+        if (header == null) {
+            List<String> names = readCsvRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.toArray(new String[0]);
+        }
+
+        List<String> fields = readCsvRecord();
+        if (fields == null) {
+            return null;
+        }
+        if (fields.size() != header.length) {
+            throw new InvalidInputException("Expected " + header.length + " fields but found " + fields.size());
+        }
+
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < header.length; i++) {
+            // Empty cells mean "not set", like an absent JSON property
+            if (!fields.get(i).isEmpty()) {
+                node.put(header[i], fields.get(i));
+            }
+        }
+
+        try {
+            return objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            throw new InvalidInputException("Malformed record: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads one RFC 4180 record; quoted fields may contain commas, quotes ("") and newlines.
+     * Blank lines are skipped. Returns null at end of input.
+     */
+    private List<String> readCsvRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\n' || c == '\r') {
+            if (c == '\n') {
+                lineNumber++;
+            }
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = lineNumber + 1;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    lineNumber++;
+                    throw new InvalidInputException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int peek = reader.read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static boolean isCsv(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith(CSV);
+    }
+
+    private static boolean isNdjson(String contentType) {
+        return contentType != null && contentType.toLowerCase().startsWith(NDJSON);
+    }
+}
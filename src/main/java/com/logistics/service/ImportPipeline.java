@@ -0,0 +1,94 @@
+package com.logistics.service;
+
+import com.logistics.dto.ImportResponse;
+import com.logistics.dto.RejectedRow;
+import com.logistics.exception.InvalidInputException;
+import com.logistics.repository.BulkLoadResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Lazily turns bulk import records into models for the repository bulk loader
+ *
+ * Records that fail to parse or validate are counted and skipped; only the
+ * first maxReported of them are kept for the response.
+ */
+class ImportPipeline<T, M> implements Iterator<M> {
+
+    private final BulkRecordReader<T> reader;
+    private final Function<T, M> converter;
+    private final int maxReported;
+
+    private final List<RejectedRow> rejections = new ArrayList<>();
+    private long received;
+    private long rejected;
+    private M next;
+
+    ImportPipeline(BulkRecordReader<T> reader, Function<T, M> converter, int maxReported) {
+        this.reader = reader;
+        this.converter = converter;
+        this.maxReported = maxReported;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            T record;
+            try {
+                record = reader.next();
+            } catch (InvalidInputException e) {
+                received++;
+                reject(e.getMessage());
+                continue;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (record == null) {
+                return false;
+            }
+            received++;
+
+            try {
+                next = converter.apply(record);
+            } catch (InvalidInputException | IllegalArgumentException | IllegalStateException e) {
+                reject(e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public M next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        M result = next;
+        next = null;
+        return result;
+    }
+
+    ImportResponse toResponse(String entity, BulkLoadResult loaded) {
+        ImportResponse response = new ImportResponse();
+        response.setEntity(entity);
+        response.setReceived(received);
+        response.setInserted(loaded.getInserted());
+        response.setSkipped(loaded.getSkipped());
+        response.setRejected(rejected);
+        response.setRejections(rejections);
+        return response;
+    }
+
+    private void reject(String message) {
+        rejected++;
+        if (rejections.size() < maxReported) {
+            rejections.add(new RejectedRow(reader.getRecordLine(), message));
+        }
+    }
+}
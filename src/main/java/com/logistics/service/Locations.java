@@ -0,0 +1,21 @@
+package com.logistics.service;
+
+import java.util.Locale;
+
+/**
+ * Matching of free-text locations: "Astana, Kazakhstan" and "astana" are
+ * the same place, keyed by the part before any comma, trimmed and lower case
+ */
+final class Locations {
+
+    private Locations() {
+    }
+
+    static String key(String location) {
+        if (location == null) {
+            return "";
+        }
+        int comma = location.indexOf(',');
+        return (comma >= 0 ? location.substring(0, comma) : location).trim().toLowerCase(Locale.ROOT);
+    }
+}
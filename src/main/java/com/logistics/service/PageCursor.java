@@ -0,0 +1,54 @@
+package com.logistics.service;
+
+import com.logistics.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor
+ *
+ * Clients only echo the token back, so the encoding can change without
+ * breaking them. The payload is the key of the last row on the page.
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "\u001F";
+
+    private PageCursor() {
+    }
+
+    public static String encode(String... values) {
+        String payload = String.join(SEPARATOR, values);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor) {
+        try {
+            String payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return payload.split(SEPARATOR, -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static String encodeId(Integer id) {
+        return encode(String.valueOf(id));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeId}; null or empty means first page
+     */
+    public static Integer decodeId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        String[] values = decode(cursor);
+        try {
+            return Integer.valueOf(values[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.logistics.service;
+
+import com.logistics.dto.ShipmentDTO;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ReactiveShipmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking shipment reads for the tracking front end
+ *
+ * Returns the same DTOs as {@link ShipmentService}; nothing here waits on
+ * the database, so a request holds no thread while its query runs.
+ */
+@Service
+public class ReactiveShipmentService {
+
+    private final ReactiveShipmentRepository repository;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    @Autowired
+    public ReactiveShipmentService(ReactiveShipmentRepository repository) {
+        this.repository = repository;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    public Mono<ShipmentDTO> getShipmentById(Integer id) {
+        loggingService.info("Fetching shipment with ID: {}", id);
+        return repository.findById(id).map(ShipmentService::convertToDTO);
+    }
+
+    public Mono<ShipmentDTO> getShipmentByTrackingNumber(String trackingNumber) {
+        loggingService.info("Fetching shipment with tracking number: {}", trackingNumber);
+        return repository.findByTrackingNumber(trackingNumber).map(ShipmentService::convertToDTO);
+    }
+
+    public Flux<ShipmentDTO> streamShipmentsByStatus(String status) {
+        loggingService.info("Streaming shipments with status: {}", status);
+        return repository.streamByStatus(status, config.getIntConfig("EXPORT_FETCH_SIZE", 1000))
+                .map(ShipmentService::convertToDTO);
+    }
+
+    public Flux<ShipmentDTO> streamAllShipments() {
+        loggingService.info("Streaming all shipments");
+        return repository.streamAll(config.getIntConfig("EXPORT_FETCH_SIZE", 1000))
+                .map(ShipmentService::convertToDTO);
+    }
+}
@@ -0,0 +1,561 @@
+package com.logistics.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Immutable graph of locations and one-way lanes, with fastest-route search
+ *
+ * Lanes are kept in compressed sparse row form: the lanes leaving location
+ * v sit at positions offsets[v] to offsets[v + 1] - 1 of the lane arrays,
+ * and a reverse copy indexes them by destination. Searches are A* over
+ * transit hours with landmark lower bounds: for a few hub locations the
+ * graph stores the fastest time from every location to the hub and from
+ * the hub to every location, and by the triangle inequality the difference
+ * between two such times never overestimates the remaining time. The bounds
+ * steer the search towards the target, so it settles a small part of the
+ * graph instead of a whole Dijkstra ball, and the route is still exact.
+ *
+ * Hubs are chosen farthest first: the busiest location, then each time the
+ * location farthest from every hub chosen so far. Searches may run
+ * concurrently; each borrows its scratch arrays from a pool.
+ */
+class RouteGraph {
+
+    private static final double INFINITY = Double.POSITIVE_INFINITY;
+
+    // travelHours reads the deadline once per this many heap pops
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final String[] names;
+    private final Map<String, Integer> locations;
+
+    private final int[] offsets;
+    private final int[] sources;
+    private final int[] targets;
+    private final int[] laneIds;
+    private final double[] hours;
+    private final double[] costs;
+
+    private final int[] reverseOffsets;
+    private final int[] reverseSources;
+    private final double[] reverseHours;
+
+    private final int[] hubs;
+    // fromHub[i][v]: fastest time from hub i to v; toHub[i][v]: from v to hub i
+    private final double[][] fromHub;
+    private final double[][] toHub;
+
+    private final ConcurrentLinkedQueue<SearchState> states = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Lane arrays are indexed by lane position; locations are matched as
+     * {@link Locations} does, and named after their first spelling
+     */
+    RouteGraph(int[] laneIds, String[] origins, String[] destinations, double[] transitHours, double[] costsPerKg,
+               int laneCount, int hubCount) {
+        Map<String, Integer> index = new HashMap<>();
+        String[] spellings = new String[Math.max(1, 2 * laneCount)];
+        int[] from = new int[laneCount];
+        int[] to = new int[laneCount];
+        for (int l = 0; l < laneCount; l++) {
+            from[l] = locate(index, spellings, origins[l]);
+            to[l] = locate(index, spellings, destinations[l]);
+        }
+        int nodeCount = index.size();
+        this.locations = index;
+        this.names = Arrays.copyOf(spellings, nodeCount);
+
+        this.offsets = new int[nodeCount + 1];
+        this.reverseOffsets = new int[nodeCount + 1];
+        for (int l = 0; l < laneCount; l++) {
+            offsets[from[l] + 1]++;
+            reverseOffsets[to[l] + 1]++;
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            offsets[v + 1] += offsets[v];
+            reverseOffsets[v + 1] += reverseOffsets[v];
+        }
+
+        this.sources = new int[laneCount];
+        this.targets = new int[laneCount];
+        this.laneIds = new int[laneCount];
+        this.hours = new double[laneCount];
+        this.costs = new double[laneCount];
+        this.reverseSources = new int[laneCount];
+        this.reverseHours = new double[laneCount];
+        int[] next = Arrays.copyOf(offsets, nodeCount);
+        int[] reverseNext = Arrays.copyOf(reverseOffsets, nodeCount);
+        for (int l = 0; l < laneCount; l++) {
+            int position = next[from[l]]++;
+            sources[position] = from[l];
+            targets[position] = to[l];
+            this.laneIds[position] = laneIds[l];
+            hours[position] = transitHours[l];
+            costs[position] = costsPerKg[l];
+
+            int reversePosition = reverseNext[to[l]]++;
+            reverseSources[reversePosition] = from[l];
+            reverseHours[reversePosition] = transitHours[l];
+        }
+
+        int hubTotal = Math.min(Math.max(0, hubCount), nodeCount);
+        this.hubs = new int[hubTotal];
+        this.fromHub = new double[hubTotal][];
+        this.toHub = new double[hubTotal][];
+        chooseHubs();
+    }
+
+    private static int locate(Map<String, Integer> index, String[] spellings, String location) {
+        Integer node = index.get(Locations.key(location));
+        if (node == null) {
+            node = index.size();
+            index.put(Locations.key(location), node);
+            spellings[node] = location.trim();
+        }
+        return node;
+    }
+
+    private void chooseHubs() {
+        int nodeCount = names.length;
+        // Smallest time from any chosen hub, and back, so far
+        double[] nearest = new double[nodeCount];
+        Arrays.fill(nearest, INFINITY);
+
+        for (int i = 0; i < hubs.length; i++) {
+            int hub = -1;
+            if (i == 0) {
+                int busiest = -1;
+                for (int v = 0; v < nodeCount; v++) {
+                    int degree = offsets[v + 1] - offsets[v] + reverseOffsets[v + 1] - reverseOffsets[v];
+                    if (degree > busiest) {
+                        busiest = degree;
+                        hub = v;
+                    }
+                }
+            } else {
+                // Unreachable locations come first, so every component gets a hub
+                double farthest = -1;
+                for (int v = 0; v < nodeCount; v++) {
+                    if (nearest[v] > farthest) {
+                        farthest = nearest[v];
+                        hub = v;
+                    }
+                }
+            }
+
+            hubs[i] = hub;
+            fromHub[i] = distancesFrom(hub, offsets, targets, hours);
+            toHub[i] = distancesFrom(hub, reverseOffsets, reverseSources, reverseHours);
+            for (int v = 0; v < nodeCount; v++) {
+                nearest[v] = Math.min(nearest[v], fromHub[i][v] + toHub[i][v]);
+            }
+            nearest[hub] = -1;
+        }
+    }
+
+    /**
+     * Plain Dijkstra from one location over the given lane arrays
+     */
+    private double[] distancesFrom(int start, int[] laneOffsets, int[] laneEnds, double[] laneHours) {
+        double[] distances = new double[names.length];
+        Arrays.fill(distances, INFINITY);
+        distances[start] = 0;
+        Heap heap = new Heap(Math.max(16, names.length));
+        heap.push(0, start);
+        while (heap.size > 0) {
+            double distance = heap.peekKey();
+            int node = heap.pop();
+            if (distance > distances[node]) {
+                continue;
+            }
+            for (int e = laneOffsets[node]; e < laneOffsets[node + 1]; e++) {
+                double candidate = distance + laneHours[e];
+                if (candidate < distances[laneEnds[e]]) {
+                    distances[laneEnds[e]] = candidate;
+                    heap.push(candidate, laneEnds[e]);
+                }
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Returns the location's position, or -1 if no lane touches it
+     */
+    int locationOf(String location) {
+        Integer node = locations.get(Locations.key(location));
+        return node != null ? node : -1;
+    }
+
+    /**
+     * Fastest route from source to target, or null if there is none
+     */
+    Route fastestRoute(int source, int target) {
+        SearchState state = borrowState();
+        try {
+            return search(source, target, state);
+        } finally {
+            states.offer(state);
+        }
+    }
+
+    /**
+     * Fastest times between the given distinct locations: hours[i][j] from
+     * locations[i] to locations[j], infinity where there is no route or the
+     * location is -1. One Dijkstra per location, each stopping once it has
+     * settled all the others. Returns null if the deadline passes first.
+     */
+    double[][] travelHours(int[] locations, long deadlineNanos) {
+        double[][] matrix = new double[locations.length][locations.length];
+        SearchState state = borrowState();
+        try {
+            for (int i = 0; i < locations.length; i++) {
+                Arrays.fill(matrix[i], INFINITY);
+                if (locations[i] >= 0 && !distances(locations[i], locations, matrix[i], state, deadlineNanos)) {
+                    return null;
+                }
+            }
+        } finally {
+            states.offer(state);
+        }
+        return matrix;
+    }
+
+    private SearchState borrowState() {
+        SearchState state = states.poll();
+        return state != null ? state : new SearchState(names.length);
+    }
+
+    // False if the deadline passed before every location was settled
+    private boolean distances(int source, int[] locations, double[] row, SearchState state, long deadlineNanos) {
+        if (System.nanoTime() - deadlineNanos >= 0) {
+            return false;
+        }
+        state.begin(-1);
+        int remaining = 0;
+        for (int location : locations) {
+            if (location >= 0 && state.targetStamp[location] != state.stamp) {
+                state.targetStamp[location] = state.stamp;
+                remaining++;
+            }
+        }
+        state.reach(source, 0, -1);
+        state.heap.push(0, source);
+
+        int popped = 0;
+        while (state.heap.size > 0 && remaining > 0) {
+            if (++popped % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadlineNanos >= 0) {
+                return false;
+            }
+            double distance = state.heap.peekKey();
+            int node = state.heap.pop();
+            if (distance > state.distance[node]) {
+                continue;
+            }
+            if (state.targetStamp[node] == state.stamp) {
+                // Settled; a duplicate heap entry for it is skipped as stale above
+                state.targetStamp[node] = 0;
+                remaining--;
+            }
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int next = targets[e];
+                double candidate = distance + hours[e];
+                if (!state.reached(next) || candidate < state.distance[next]) {
+                    state.reach(next, candidate, e);
+                    state.heap.push(candidate, next);
+                }
+            }
+        }
+
+        for (int j = 0; j < locations.length; j++) {
+            if (locations[j] >= 0 && state.reached(locations[j])) {
+                row[j] = state.distance[locations[j]];
+            }
+        }
+        return true;
+    }
+
+    private Route search(int source, int target, SearchState state) {
+        state.begin(target);
+        double startBound = state.bound(source);
+        if (startBound == INFINITY) {
+            return null;
+        }
+        state.reach(source, 0, -1);
+        state.heap.push(startBound, source);
+
+        int settled = 0;
+        while (state.heap.size > 0) {
+            double key = state.heap.peekKey();
+            int node = state.heap.pop();
+            if (key > state.distance[node] + state.bound[node]) {
+                continue;
+            }
+            settled++;
+            if (node == target) {
+                return state.route(target, settled);
+            }
+            double distance = state.distance[node];
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int next = targets[e];
+                double candidate = distance + hours[e];
+                if (state.reached(next) && candidate >= state.distance[next]) {
+                    continue;
+                }
+                double bound = state.bound(next);
+                if (bound == INFINITY) {
+                    continue;
+                }
+                state.reach(next, candidate, e);
+                state.heap.push(candidate + bound, next);
+            }
+        }
+        return null;
+    }
+
+    String nameOf(int location) {
+        return names[location];
+    }
+
+    int getLocationCount() {
+        return names.length;
+    }
+
+    int getLaneCount() {
+        return targets.length;
+    }
+
+    int getHubCount() {
+        return hubs.length;
+    }
+
+    /**
+     * Lanes of a route, as lane positions, with their totals
+     */
+    final class Route {
+        private final int[] lanes;
+        private final int settledLocations;
+
+        private Route(int[] lanes, int settledLocations) {
+            this.lanes = lanes;
+            this.settledLocations = settledLocations;
+        }
+
+        int getLaneCount() {
+            return lanes.length;
+        }
+
+        int getLaneId(int leg) {
+            return laneIds[lanes[leg]];
+        }
+
+        String getOrigin(int leg) {
+            return names[sources[lanes[leg]]];
+        }
+
+        String getDestination(int leg) {
+            return names[targets[lanes[leg]]];
+        }
+
+        double getTransitHours(int leg) {
+            return hours[lanes[leg]];
+        }
+
+        double getCostPerKg(int leg) {
+            return costs[lanes[leg]];
+        }
+
+        double getTotalHours() {
+            double total = 0;
+            for (int lane : lanes) {
+                total += hours[lane];
+            }
+            return total;
+        }
+
+        double getTotalCostPerKg() {
+            double total = 0;
+            for (int lane : lanes) {
+                total += costs[lane];
+            }
+            return total;
+        }
+
+        int getSettledLocations() {
+            return settledLocations;
+        }
+    }
+
+    /**
+     * Per-search arrays, reused across searches; a location's entries are
+     * only valid while its stamp matches the current search
+     */
+    private final class SearchState {
+        private final double[] distance;
+        private final double[] bound;
+        private final int[] viaLane;
+        private final int[] reachedStamp;
+        private final int[] boundStamp;
+        private final int[] targetStamp;
+        private final double[] targetFromHub;
+        private final double[] targetToHub;
+        private final Heap heap;
+        private int stamp;
+
+        SearchState(int nodeCount) {
+            this.distance = new double[nodeCount];
+            this.bound = new double[nodeCount];
+            this.viaLane = new int[nodeCount];
+            this.reachedStamp = new int[nodeCount];
+            this.boundStamp = new int[nodeCount];
+            this.targetStamp = new int[nodeCount];
+            this.targetFromHub = new double[hubs.length];
+            this.targetToHub = new double[hubs.length];
+            this.heap = new Heap(64);
+        }
+
+        /**
+         * Starts a search; target is -1 for one that uses no bounds
+         */
+        void begin(int target) {
+            if (++stamp == 0) {
+                Arrays.fill(reachedStamp, 0);
+                Arrays.fill(boundStamp, 0);
+                Arrays.fill(targetStamp, 0);
+                stamp = 1;
+            }
+            heap.size = 0;
+            for (int i = 0; target >= 0 && i < hubs.length; i++) {
+                targetFromHub[i] = fromHub[i][target];
+                targetToHub[i] = toHub[i][target];
+            }
+        }
+
+        boolean reached(int node) {
+            return reachedStamp[node] == stamp;
+        }
+
+        void reach(int node, double nodeDistance, int lane) {
+            reachedStamp[node] = stamp;
+            distance[node] = nodeDistance;
+            viaLane[node] = lane;
+        }
+
+        /**
+         * Lower bound on the time from node to the target, or infinity if the
+         * hub tables prove the target unreachable from it
+         */
+        double bound(int node) {
+            if (boundStamp[node] == stamp) {
+                return bound[node];
+            }
+            double best = 0;
+            for (int i = 0; i < hubs.length; i++) {
+                // time(node, target) >= time(hub, target) - time(hub, node)
+                double hubToTarget = targetFromHub[i];
+                double hubToNode = fromHub[i][node];
+                if (hubToTarget == INFINITY) {
+                    if (hubToNode != INFINITY) {
+                        best = INFINITY;
+                        break;
+                    }
+                } else if (hubToNode != INFINITY) {
+                    best = Math.max(best, hubToTarget - hubToNode);
+                }
+
+                // time(node, target) >= time(node, hub) - time(target, hub)
+                double nodeToHub = toHub[i][node];
+                double targetToHubTime = targetToHub[i];
+                if (nodeToHub == INFINITY) {
+                    if (targetToHubTime != INFINITY) {
+                        best = INFINITY;
+                        break;
+                    }
+                } else if (targetToHubTime != INFINITY) {
+                    best = Math.max(best, nodeToHub - targetToHubTime);
+                }
+            }
+            boundStamp[node] = stamp;
+            bound[node] = best;
+            return best;
+        }
+
+        Route route(int target, int settled) {
+            int length = 0;
+            for (int node = target; viaLane[node] >= 0; node = sources[viaLane[node]]) {
+                length++;
+            }
+            int[] lanes = new int[length];
+            for (int node = target; viaLane[node] >= 0; node = sources[viaLane[node]]) {
+                lanes[--length] = viaLane[node];
+            }
+            return new Route(lanes, settled);
+        }
+    }
+
+    /**
+     * Binary min-heap of locations by key, without decrease-key; a location
+     * is pushed again when its key improves and stale entries are skipped
+     */
+    private static final class Heap {
+        private double[] keys;
+        private int[] nodes;
+        private int size;
+
+        Heap(int capacity) {
+            this.keys = new double[capacity];
+            this.nodes = new int[capacity];
+        }
+
+        void push(double key, int node) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+        }
+
+        double peekKey() {
+            return keys[0];
+        }
+
+        int pop() {
+            int top = nodes[0];
+            double key = keys[--size];
+            int node = nodes[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= key) {
+                    break;
+                }
+                keys[i] = keys[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            keys[i] = key;
+            nodes[i] = node;
+            return top;
+        }
+    }
+}
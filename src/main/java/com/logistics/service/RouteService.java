@@ -0,0 +1,247 @@
+package com.logistics.service;
+
+import com.logistics.dto.LaneDTO;
+import com.logistics.dto.RouteResponse;
+import com.logistics.dto.ShipmentDTO;
+import com.logistics.exception.InvalidInputException;
+import com.logistics.exception.ResourceNotFoundException;
+import com.logistics.model.Lane;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.LaneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Lanes between locations and the fastest routes over them
+ * (see {@link RouteGraph})
+ *
+ * The graph is built from the lanes table on first use and rebuilt after
+ * the lanes change through this service, or once it is older than
+ * ROUTE_GRAPH_MAX_AGE_SECONDS, which picks up lanes written elsewhere.
+ * Searches run against the current graph without locking, and a graph that
+ * is only old keeps serving while one caller rebuilds it. A rebuild holds a
+ * ReentrantLock rather than a monitor, so virtual threads waiting on it
+ * while the lanes load do not pin their carriers.
+ */
+@Service
+public class RouteService {
+
+    private final LaneRepository repository;
+    private final ShipmentService shipmentService;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    // Bumped by every lane change; a graph built from an older version is stale
+    private final AtomicLong lanesVersion = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public RouteService(LaneRepository repository, ShipmentService shipmentService) {
+        this.repository = repository;
+        this.shipmentService = shipmentService;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    public LaneDTO createLane(LaneDTO dto) {
+        validateLaneDTO(dto);
+
+        Lane lane = new Lane(null, dto.getOrigin().trim(), dto.getDestination().trim(), dto.getTransitHours(),
+                dto.getCostPerKg() != null ? dto.getCostPerKg() : 0.0);
+        Lane created = repository.create(lane);
+        lanesVersion.incrementAndGet();
+        return convertToDTO(created);
+    }
+
+    public List<LaneDTO> getAllLanes() {
+        return repository.findAll().stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    public void deleteLane(Integer id) {
+        repository.delete(id);
+        lanesVersion.incrementAndGet();
+    }
+
+    /**
+     * Fastest route between two locations, matched on the part before any comma
+     */
+    public RouteResponse findRoute(String origin, String destination) {
+        if (origin == null || origin.isBlank() || destination == null || destination.isBlank()) {
+            throw new InvalidInputException("Both from and to are required");
+        }
+
+        RouteGraph graph = currentGraph();
+        long started = System.nanoTime();
+        int source = graph.locationOf(origin);
+        int target = graph.locationOf(destination);
+        if (source < 0 || target < 0) {
+            throw new ResourceNotFoundException("No lanes serve " + (source < 0 ? origin : destination));
+        }
+        RouteGraph.Route route = graph.fastestRoute(source, target);
+        if (route == null) {
+            throw new ResourceNotFoundException("No route from " + origin + " to " + destination);
+        }
+        long searchMicros = (System.nanoTime() - started) / 1_000;
+
+        RouteResponse response = toResponse(route, graph.nameOf(source), graph.nameOf(target));
+        response.setSearchMicros(searchMicros);
+        return response;
+    }
+
+    /**
+     * Fastest route from a shipment's origin to its destination, with the
+     * lane cost of its weight
+     */
+    public RouteResponse findShipmentRoute(Integer shipmentId) {
+        ShipmentDTO shipment = shipmentService.getShipmentById(shipmentId);
+
+        RouteResponse response = findRoute(shipment.getOrigin(), shipment.getDestination());
+        response.setShipmentId(shipmentId);
+        response.setWeight(shipment.getWeight());
+        if (shipment.getWeight() != null) {
+            response.setLaneCost(Math.round(response.getCostPerKg() * shipment.getWeight() * 100) / 100.0);
+        }
+        return response;
+    }
+
+    /**
+     * The graph as of now. A graph built before a lane change through this
+     * service is rebuilt first; one that is only older than
+     * ROUTE_GRAPH_MAX_AGE_SECONDS is rebuilt by one caller while the others
+     * keep using it.
+     */
+    RouteGraph currentGraph() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == lanesVersion.get()) {
+            if (!isExpired(current) || !rebuildLock.tryLock()) {
+                return current.graph;
+            }
+        } else {
+            rebuildLock.lock();
+        }
+
+        try {
+            current = snapshot;
+            if (current != null && current.version == lanesVersion.get() && !isExpired(current)) {
+                return current.graph;
+            }
+            return rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Snapshot current) {
+        long maxAgeNanos = config.getIntConfig("ROUTE_GRAPH_MAX_AGE_SECONDS", 300) * 1_000_000_000L;
+        return System.nanoTime() - current.builtAt >= maxAgeNanos;
+    }
+
+    // Called with rebuildLock held
+    private RouteGraph rebuild() {
+        // Read the version first: a change made during the load leaves the graph stale
+        long version = lanesVersion.get();
+        long started = System.nanoTime();
+        List<Lane> lanes = new ArrayList<>();
+        repository.streamAll(lanes::add);
+
+        int[] ids = new int[lanes.size()];
+        String[] origins = new String[lanes.size()];
+        String[] destinations = new String[lanes.size()];
+        double[] hours = new double[lanes.size()];
+        double[] costs = new double[lanes.size()];
+        for (int l = 0; l < lanes.size(); l++) {
+            Lane lane = lanes.get(l);
+            ids[l] = lane.getId();
+            origins[l] = lane.getOrigin();
+            destinations[l] = lane.getDestination();
+            hours[l] = lane.getTransitHours();
+            costs[l] = lane.getCostPerKg();
+        }
+        RouteGraph graph = new RouteGraph(ids, origins, destinations, hours, costs, lanes.size(),
+                config.getIntConfig("ROUTING_HUB_COUNT", 16));
+        snapshot = new Snapshot(graph, version, System.nanoTime());
+
+        loggingService.info("Built route graph of {} locations and {} lanes with {} hubs in {} ms",
+                graph.getLocationCount(), graph.getLaneCount(), graph.getHubCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        return graph;
+    }
+
+    private RouteResponse toResponse(RouteGraph.Route route, String origin, String destination) {
+        List<LaneDTO> lanes = new ArrayList<>(route.getLaneCount());
+        for (int leg = 0; leg < route.getLaneCount(); leg++) {
+            LaneDTO lane = new LaneDTO();
+            lane.setId(route.getLaneId(leg));
+            lane.setOrigin(route.getOrigin(leg));
+            lane.setDestination(route.getDestination(leg));
+            lane.setTransitHours(route.getTransitHours(leg));
+            lane.setCostPerKg(route.getCostPerKg(leg));
+            lanes.add(lane);
+        }
+
+        double hours = route.getTotalHours();
+        int days = (int) Math.ceil(hours / 24);
+        RouteResponse response = new RouteResponse();
+        response.setOrigin(origin);
+        response.setDestination(destination);
+        response.setTransitHours(hours);
+        response.setTransitDays(days);
+        response.setEstimatedDelivery(LocalDate.now().plusDays(days));
+        response.setCostPerKg(route.getTotalCostPerKg());
+        response.setSettledLocations(route.getSettledLocations());
+        response.setLanes(lanes);
+        return response;
+    }
+
+    private void validateLaneDTO(LaneDTO dto) {
+        if (dto.getOrigin() == null || dto.getOrigin().isBlank()) {
+            throw new InvalidInputException("Origin is required");
+        }
+        if (dto.getDestination() == null || dto.getDestination().isBlank()) {
+            throw new InvalidInputException("Destination is required");
+        }
+        if (Locations.key(dto.getOrigin()).equals(Locations.key(dto.getDestination()))) {
+            throw new InvalidInputException("Origin and destination must be different locations");
+        }
+        // The columns are DECIMAL(8,2) and DECIMAL(10,4); anything they would round to 0 or overflow is refused
+        if (dto.getTransitHours() == null || !(dto.getTransitHours() >= 0.01 && dto.getTransitHours() < 1_000_000)) {
+            throw new InvalidInputException("Transit hours must be between 0.01 and 999999.99");
+        }
+        if (dto.getCostPerKg() != null && !(dto.getCostPerKg() >= 0 && dto.getCostPerKg() < 1_000_000)) {
+            throw new InvalidInputException("Cost per kg must be between 0 and 999999.9999");
+        }
+    }
+
+    private LaneDTO convertToDTO(Lane lane) {
+        LaneDTO dto = new LaneDTO();
+        dto.setId(lane.getId());
+        dto.setOrigin(lane.getOrigin());
+        dto.setDestination(lane.getDestination());
+        dto.setTransitHours(lane.getTransitHours());
+        dto.setCostPerKg(lane.getCostPerKg());
+        return dto;
+    }
+
+    private static final class Snapshot {
+        private final RouteGraph graph;
+        private final long version;
+        private final long builtAt;
+
+        Snapshot(RouteGraph graph, long version, long builtAt) {
+            this.graph = graph;
+            this.version = version;
+            this.builtAt = builtAt;
+        }
+    }
+}
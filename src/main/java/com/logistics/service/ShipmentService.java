@@ -1,18 +1,40 @@
 package com.logistics.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.dto.BatchItemResult;
+import com.logistics.dto.BatchResponse;
+import com.logistics.dto.CacheStatsResponse;
+import com.logistics.dto.ImportResponse;
+import com.logistics.dto.PageResponse;
 import com.logistics.dto.ShipmentDTO;
+import com.logistics.dto.ShipmentSearchRequest;
+import com.logistics.dto.ShipmentStatsResponse;
 import com.logistics.exception.DuplicateResourceException;
 import com.logistics.exception.InvalidInputException;
 import com.logistics.model.Shipment;
 import com.logistics.patterns.builder.ShipmentBuilder;
 import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ShipmentCache;
 import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.ShipmentSearchCriteria;
+import com.logistics.repository.ShipmentSortField;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Service layer for Shipment business logic
@@ -23,87 +45,178 @@ public class ShipmentService {
 
     private final ShipmentRepository repository;
     private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    private final ShipmentCache cache;
+    private final ShipmentStatistics statistics;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ShipmentService(ShipmentRepository repository) {
+    public ShipmentService(ShipmentRepository repository, ShipmentCache cache,
+                           ShipmentStatistics statistics, ObjectMapper objectMapper) {
         this.repository = repository;
+        this.cache = cache;
+        this.statistics = statistics;
+        this.objectMapper = objectMapper;
         this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
     }
 
     public ShipmentDTO createShipment(ShipmentDTO dto) {
         validateShipmentDTO(dto);
 
-        loggingService.info("Creating new shipment: " + dto.getTrackingNumber());
+        loggingService.info("Creating new shipment: {}", dto.getTrackingNumber());
 
+        statistics.beginWrite();
         try {
-            // Use Builder Pattern to construct Shipment
-            ShipmentBuilder builder = new ShipmentBuilder()
-                    .type(dto.getShipmentType())
-                    .trackingNumber(dto.getTrackingNumber())
-                    .sender(dto.getSenderName())
-                    .recipient(dto.getRecipientName())
-                    .from(dto.getOrigin())
-                    .to(dto.getDestination())
-                    .weight(dto.getWeight());
-
-            if (dto.getStatus() != null) {
-                builder.status(dto.getStatus());
-            }
-            if (dto.getPriority() != null) {
-                builder.priority(dto.getPriority());
-            }
-            if (dto.getEstimatedDelivery() != null) {
-                builder.estimatedDelivery(dto.getEstimatedDelivery());
-            }
-            if (dto.getVehicleId() != null) {
-                builder.vehicleId(dto.getVehicleId());
+            Shipment shipment = buildShipment(dto);
+            Shipment created = repository.create(shipment);
+            statistics.recordCreated(created);
+
+            loggingService.info("Shipment created successfully with ID: {}", created.getId());
+            return convertToDTO(created);
+
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateResourceException("Shipment with tracking number already exists: " + dto.getTrackingNumber());
+        } finally {
+            statistics.endWrite();
+        }
+    }
+
+    /**
+     * Creates many shipments at once. Invalid items and duplicate tracking numbers
+     * (within the request or already stored) are reported per item instead of
+     * failing the whole request.
+     */
+    public BatchResponse createShipments(List<ShipmentDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new InvalidInputException("Batch must contain at least one shipment");
+        }
+        int maxBatchSize = config.getIntConfig("MAX_BATCH_SIZE", 100000);
+        if (dtos.size() > maxBatchSize) {
+            throw new InvalidInputException("Batch size exceeds maximum of " + maxBatchSize);
+        }
+
+        loggingService.info("Creating batch of {} shipments", dtos.size());
+
+        BatchItemResult[] results = new BatchItemResult[dtos.size()];
+        Shipment[] built = new Shipment[dtos.size()];
+        List<Shipment> toInsert = new ArrayList<>(dtos.size());
+        Set<String> seen = new HashSet<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            ShipmentDTO dto = dtos.get(i);
+            String trackingNumber = dto != null ? dto.getTrackingNumber() : null;
+            try {
+                if (dto == null) {
+                    throw new InvalidInputException("Shipment is required");
+                }
+                validateShipmentDTO(dto);
+                built[i] = buildShipment(dto);
+            } catch (InvalidInputException | IllegalArgumentException | IllegalStateException e) {
+                results[i] = new BatchItemResult(i, trackingNumber, "INVALID", null, e.getMessage());
+                continue;
             }
-            if (dto.getWarehouseId() != null) {
-                builder.warehouseId(dto.getWarehouseId());
+
+            if (!seen.add(trackingNumber)) {
+                results[i] = new BatchItemResult(i, trackingNumber, "DUPLICATE", null,
+                        "Tracking number repeated in batch: " + trackingNumber);
+                built[i] = null;
+                continue;
             }
+            toInsert.add(built[i]);
+        }
+
+        statistics.beginWrite();
+        try {
+            Set<String> existing = repository.createAll(toInsert, config.getIntConfig("BATCH_CHUNK_SIZE", 500));
 
-            // Handle special attributes based on shipment type
-            if (dto.getIsFragile() != null) {
-                builder.specialAttribute(dto.getIsFragile());
-            } else if (dto.getTemperatureControlled() != null) {
-                builder.specialAttribute(dto.getTemperatureControlled());
-            } else if (dto.getCustomsCleared() != null) {
-                builder.specialAttribute(dto.getCustomsCleared());
+            for (int i = 0; i < built.length; i++) {
+                Shipment shipment = built[i];
+                if (shipment == null) {
+                    continue;
+                }
+                if (shipment.getId() != null) {
+                    statistics.recordCreated(shipment);
+                    results[i] = new BatchItemResult(i, shipment.getTrackingNumber(), "CREATED", shipment.getId(), null);
+                } else if (existing.contains(shipment.getTrackingNumber())) {
+                    results[i] = new BatchItemResult(i, shipment.getTrackingNumber(), "DUPLICATE", null,
+                            "Shipment with tracking number already exists: " + shipment.getTrackingNumber());
+                } else {
+                    results[i] = new BatchItemResult(i, shipment.getTrackingNumber(), "FAILED", null,
+                            "Shipment rejected by database constraints");
+                }
             }
+        } finally {
+            statistics.endWrite();
+        }
 
-            Shipment shipment = builder.build();
-            Shipment created = repository.create(shipment);
+        BatchResponse response = new BatchResponse(Arrays.asList(results));
+        loggingService.info("Batch completed: {} created, {} duplicates, {} rejected",
+                response.getCreated(), response.getDuplicates(), response.getRejected());
+        return response;
+    }
 
-            loggingService.info("Shipment created successfully with ID: " + created.getId());
-            return convertToDTO(created);
+    /**
+     * Streams a CSV or NDJSON upload into the shipments table with PostgreSQL COPY
+     */
+    public ImportResponse importShipments(InputStream in, String contentType) {
+        loggingService.info("Importing shipments from {}", contentType);
 
-        } catch (DuplicateKeyException e) {
-            throw new DuplicateResourceException("Shipment with tracking number already exists: " + dto.getTrackingNumber());
+        try (BulkRecordReader<ShipmentDTO> reader =
+                     new BulkRecordReader<>(in, contentType, ShipmentDTO.class, objectMapper)) {
+            ImportPipeline<ShipmentDTO, Shipment> rows = new ImportPipeline<>(reader, dto -> {
+                validateShipmentDTO(dto);
+                return buildShipment(dto);
+            }, config.getIntConfig("IMPORT_MAX_REPORTED_REJECTIONS", 100));
+
+            ImportResponse response = rows.toResponse("shipments", repository.bulkLoad(rows));
+            // The merge does not report which rows it inserted, so recount instead
+            if (response.getInserted() > 0) {
+                statistics.requestReconcile();
+            }
+            loggingService.info("Shipment import completed: {} inserted, {} skipped, {} rejected",
+                    response.getInserted(), response.getSkipped(), response.getRejected());
+            return response;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    public List<ShipmentDTO> getAllShipments() {
-        loggingService.info("Fetching all shipments");
-        return repository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public PageResponse<ShipmentDTO> getAllShipments(String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        Integer afterId = PageCursor.decodeId(cursor);
+        loggingService.info("Fetching shipments page after ID: {}", afterId);
+
+        // One extra row tells us whether another page exists
+        return toPage(repository.findAll(afterId, pageSize + 1), pageSize, ShipmentService::idCursor);
+    }
+
+    /**
+     * Streams every shipment to the sink without collecting them in memory
+     */
+    public void exportShipments(Consumer<ShipmentDTO> sink) {
+        int fetchSize = config.getIntConfig("EXPORT_FETCH_SIZE", 1000);
+        loggingService.info("Exporting all shipments with fetch size: {}", fetchSize);
+        repository.streamAll(fetchSize, shipment -> sink.accept(convertToDTO(shipment)));
     }
 
     public ShipmentDTO getShipmentById(Integer id) {
-        loggingService.info("Fetching shipment with ID: " + id);
+        loggingService.info("Fetching shipment with ID: {}", id);
         Shipment shipment = repository.findById(id);
         return convertToDTO(shipment);
     }
 
     public ShipmentDTO getShipmentByTrackingNumber(String trackingNumber) {
-        loggingService.info("Fetching shipment with tracking number: " + trackingNumber);
+        loggingService.info("Fetching shipment with tracking number: {}", trackingNumber);
         Shipment shipment = repository.findByTrackingNumber(trackingNumber);
         return convertToDTO(shipment);
     }
 
     public ShipmentDTO updateShipment(Integer id, ShipmentDTO dto) {
         validateShipmentDTO(dto);
-        loggingService.info("Updating shipment ID: " + id);
+        loggingService.info("Updating shipment ID: {}", id);
 
         ShipmentBuilder builder = new ShipmentBuilder()
                 .type(dto.getShipmentType())
@@ -135,23 +248,180 @@ public class ShipmentService {
         }
 
         Shipment shipment = builder.build();
-        Shipment updated = repository.update(id, shipment);
+        statistics.beginWrite();
+        try {
+            Shipment before = repository.update(id, shipment);
+            statistics.recordUpdated(before, shipment);
+        } finally {
+            statistics.endWrite();
+        }
 
-        loggingService.info("Shipment updated successfully: " + id);
-        return convertToDTO(updated);
+        loggingService.info("Shipment updated successfully: {}", id);
+        return convertToDTO(shipment);
     }
 
     public void deleteShipment(Integer id) {
-        loggingService.info("Deleting shipment ID: " + id);
-        repository.delete(id);
-        loggingService.info("Shipment deleted successfully: " + id);
+        loggingService.info("Deleting shipment ID: {}", id);
+        statistics.beginWrite();
+        try {
+            Shipment before = repository.delete(id);
+            statistics.recordDeleted(before);
+        } finally {
+            statistics.endWrite();
+        }
+        loggingService.info("Shipment deleted successfully: {}", id);
     }
 
-    public List<ShipmentDTO> getShipmentsByStatus(String status) {
-        loggingService.info("Fetching shipments with status: " + status);
-        return repository.findByStatus(status).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public PageResponse<ShipmentDTO> getShipmentsByStatus(String status, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        Integer afterId = PageCursor.decodeId(cursor);
+        loggingService.info("Fetching shipments with status: {} after ID: {}", status, afterId);
+        return toPage(repository.findByStatus(status, afterId, pageSize + 1), pageSize, ShipmentService::idCursor);
+    }
+
+    /**
+     * Filtered, sorted keyset page of shipments. The cursor records the sort it was
+     * issued for, so it cannot be replayed against a different ordering.
+     */
+    public PageResponse<ShipmentDTO> searchShipments(ShipmentSearchRequest request, String cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        ShipmentSearchCriteria criteria = toSearchCriteria(request);
+        ShipmentSortField sortField = criteria.getSortField();
+        String direction = criteria.isDescending() ? "desc" : "asc";
+
+        Object afterValue = null;
+        Integer afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] key = PageCursor.decode(cursor);
+            if (key.length != 4 || !key[0].equals(sortField.getProperty()) || !key[1].equals(direction)) {
+                throw new InvalidInputException("Cursor does not match the requested sort");
+            }
+            try {
+                afterValue = parseSortKey(sortField, key[2]);
+                afterId = Integer.valueOf(key[3]);
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid cursor: " + cursor);
+            }
+        }
+
+        loggingService.info("Searching shipments sorted by {} {} after ID: {}",
+                sortField.getProperty(), direction, afterId);
+
+        List<Shipment> rows = repository.search(criteria, afterValue, afterId, pageSize + 1);
+        return toPage(rows, pageSize, shipment -> PageCursor.encode(sortField.getProperty(), direction,
+                formatSortKey(sortField, shipment), String.valueOf(shipment.getId())));
+    }
+
+    public ShipmentStatsResponse getShipmentStats() {
+        return statistics.getStats();
+    }
+
+    public CacheStatsResponse getCacheStats() {
+        CacheStatsResponse stats = new CacheStatsResponse();
+        stats.setName("shipments");
+        stats.setSize(cache.getSize());
+        stats.setHits(cache.getHits());
+        stats.setMisses(cache.getMisses());
+        stats.setEvictions(cache.getEvictions());
+
+        long lookups = stats.getHits() + stats.getMisses();
+        stats.setHitRate(lookups == 0 ? 0.0 : (double) stats.getHits() / lookups);
+        return stats;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        int maxPageSize = config.getIntConfig("MAX_PAGE_SIZE", 500);
+        if (limit == null) {
+            return Math.min(config.getIntConfig("DEFAULT_PAGE_SIZE", 50), maxPageSize);
+        }
+        if (limit <= 0) {
+            throw new InvalidInputException("Limit must be positive");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    private PageResponse<ShipmentDTO> toPage(List<Shipment> rows, int pageSize, Function<Shipment, String> cursorOf) {
+        boolean hasMore = rows.size() > pageSize;
+        int count = hasMore ? pageSize : rows.size();
+
+        List<ShipmentDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(convertToDTO(rows.get(i)));
+        }
+
+        String nextCursor = hasMore ? cursorOf.apply(rows.get(count - 1)) : null;
+        return new PageResponse<>(items, pageSize, nextCursor);
+    }
+
+    private static String idCursor(Shipment shipment) {
+        return PageCursor.encodeId(shipment.getId());
+    }
+
+    private ShipmentSearchCriteria toSearchCriteria(ShipmentSearchRequest request) {
+        if (request.getDeliveryFrom() != null && request.getDeliveryTo() != null
+                && request.getDeliveryFrom().isAfter(request.getDeliveryTo())) {
+            throw new InvalidInputException("deliveryFrom must not be after deliveryTo");
+        }
+        if (request.getMinWeight() != null && request.getMaxWeight() != null
+                && request.getMinWeight() > request.getMaxWeight()) {
+            throw new InvalidInputException("minWeight must not be greater than maxWeight");
+        }
+
+        ShipmentSearchCriteria criteria = new ShipmentSearchCriteria();
+        criteria.setStatus(request.getStatus());
+        criteria.setPriority(request.getPriority());
+        criteria.setShipmentType(request.getType() != null ? request.getType().toUpperCase() : null);
+        criteria.setOrigin(request.getOrigin());
+        criteria.setDestination(request.getDestination());
+        criteria.setVehicleId(request.getVehicleId());
+        criteria.setWarehouseId(request.getWarehouseId());
+        criteria.setDeliveryFrom(request.getDeliveryFrom());
+        criteria.setDeliveryTo(request.getDeliveryTo());
+        // weight is DECIMAL; binding it as one keeps the comparison indexable
+        criteria.setMinWeight(request.getMinWeight() != null ? BigDecimal.valueOf(request.getMinWeight()) : null);
+        criteria.setMaxWeight(request.getMaxWeight() != null ? BigDecimal.valueOf(request.getMaxWeight()) : null);
+
+        if (request.getSort() != null) {
+            ShipmentSortField sortField = ShipmentSortField.fromProperty(request.getSort());
+            if (sortField == null) {
+                throw new InvalidInputException("Cannot sort by " + request.getSort()
+                        + " (expected id, trackingNumber, estimatedDelivery or weight)");
+            }
+            criteria.setSortField(sortField);
+        }
+        if (request.getDirection() != null) {
+            if (!request.getDirection().equalsIgnoreCase("asc") && !request.getDirection().equalsIgnoreCase("desc")) {
+                throw new InvalidInputException("Direction must be asc or desc");
+            }
+            criteria.setDescending(request.getDirection().equalsIgnoreCase("desc"));
+        }
+        return criteria;
+    }
+
+    private static String formatSortKey(ShipmentSortField sortField, Shipment shipment) {
+        switch (sortField) {
+            case TRACKING_NUMBER:
+                return shipment.getTrackingNumber();
+            case ESTIMATED_DELIVERY:
+                return shipment.getEstimatedDelivery().toString();
+            case WEIGHT:
+                return BigDecimal.valueOf(shipment.getWeight()).toPlainString();
+            default:
+                return "";
+        }
+    }
+
+    private static Object parseSortKey(ShipmentSortField sortField, String value) {
+        switch (sortField) {
+            case TRACKING_NUMBER:
+                return value;
+            case ESTIMATED_DELIVERY:
+                return LocalDate.parse(value);
+            case WEIGHT:
+                return new BigDecimal(value);
+            default:
+                return null;
+        }
     }
 
     private void validateShipmentDTO(ShipmentDTO dto) {
@@ -172,7 +442,47 @@ public class ShipmentService {
         }
     }
 
-    private ShipmentDTO convertToDTO(Shipment shipment) {
+    private Shipment buildShipment(ShipmentDTO dto) {
+        // Use Builder Pattern to construct Shipment
+        ShipmentBuilder builder = new ShipmentBuilder()
+                .type(dto.getShipmentType())
+                .trackingNumber(dto.getTrackingNumber())
+                .sender(dto.getSenderName())
+                .recipient(dto.getRecipientName())
+                .from(dto.getOrigin())
+                .to(dto.getDestination())
+                .weight(dto.getWeight());
+
+        if (dto.getStatus() != null) {
+            builder.status(dto.getStatus());
+        }
+        if (dto.getPriority() != null) {
+            builder.priority(dto.getPriority());
+        }
+        if (dto.getEstimatedDelivery() != null) {
+            builder.estimatedDelivery(dto.getEstimatedDelivery());
+        }
+        if (dto.getVehicleId() != null) {
+            builder.vehicleId(dto.getVehicleId());
+        }
+        if (dto.getWarehouseId() != null) {
+            builder.warehouseId(dto.getWarehouseId());
+        }
+
+        // Handle special attributes based on shipment type
+        if (dto.getIsFragile() != null) {
+            builder.specialAttribute(dto.getIsFragile());
+        } else if (dto.getTemperatureControlled() != null) {
+            builder.specialAttribute(dto.getTemperatureControlled());
+        } else if (dto.getCustomsCleared() != null) {
+            builder.specialAttribute(dto.getCustomsCleared());
+        }
+
+        return builder.build();
+    }
+
+    // Shared with ReactiveShipmentService so both APIs return the same representation
+    static ShipmentDTO convertToDTO(Shipment shipment) {
         ShipmentDTO dto = new ShipmentDTO();
         dto.setId(shipment.getId());
         dto.setShipmentType(shipment.getEntityType().replace("_SHIPMENT", ""));
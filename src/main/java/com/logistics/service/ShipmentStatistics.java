@@ -0,0 +1,222 @@
+package com.logistics.service;
+
+import com.logistics.dto.ShipmentStatsResponse;
+import com.logistics.model.Shipment;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.ShipmentTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Shipment counters kept up to date by the service's writes, so statistics
+ * never scan the table on request
+ *
+ * Writers call beginWrite before writing and endWrite after recording the
+ * write's effect. A reconcile waits for the writes in flight, fixes its
+ * database snapshot and only then lets writes continue, so each write is
+ * either in the snapshot or recorded into the new counters, never both.
+ * Counters are rebuilt at startup and then every
+ * STATS_RECONCILE_INTERVAL_SECONDS, which picks up writes that bypass the
+ * service (bulk imports, assignments, allocations). Weights are counted in
+ * hundredths, the column's scale, so sums stay exact.
+ */
+@Component
+public class ShipmentStatistics {
+
+    private final ShipmentRepository repository;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    // Writers hold the read lock from the write to its record; a reconcile takes the write lock
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "shipment-stats-reconcile");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Counters current = new Counters();
+    private volatile Counters building;
+    private volatile Instant reconciledAt;
+
+    @Autowired
+    public ShipmentStatistics(ShipmentRepository repository) {
+        this.repository = repository;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleReconcile() {
+        long interval = config.getIntConfig("STATS_RECONCILE_INTERVAL_SECONDS", 300);
+        reconciler.scheduleWithFixedDelay(this::reconcile, 0, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Rebuilds the counters soon, for writes whose effect is not known row by row
+     */
+    public void requestReconcile() {
+        reconciler.execute(this::reconcile);
+    }
+
+    /**
+     * Must be called before writing shipments whose effect is passed to the
+     * record methods, and paired with {@link #endWrite} once it is recorded
+     * or the write failed
+     */
+    public void beginWrite() {
+        lock.readLock().lock();
+    }
+
+    public void endWrite() {
+        lock.readLock().unlock();
+    }
+
+    public void recordCreated(Shipment shipment) {
+        apply(shipment, 1);
+    }
+
+    public void recordUpdated(Shipment before, Shipment after) {
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    public void recordDeleted(Shipment shipment) {
+        apply(shipment, -1);
+    }
+
+    public ShipmentStatsResponse getStats() {
+        Counters counters = current;
+
+        ShipmentStatsResponse stats = new ShipmentStatsResponse();
+        stats.setTotal(counters.total.sum());
+        stats.setByStatus(toCounts(counters.byStatus));
+        stats.setByType(toCounts(counters.byType));
+        stats.setByPriority(toCounts(counters.byPriority));
+        stats.setWeightByWarehouse(toWeights(counters.weightByWarehouse));
+        stats.setWeightByVehicle(toWeights(counters.weightByVehicle));
+        stats.setReconciledAt(reconciledAt);
+        return stats;
+    }
+
+    private void apply(Shipment shipment, int sign) {
+        applyTo(current, shipment, sign);
+        Counters next = building;
+        if (next != null) {
+            applyTo(next, shipment, sign);
+        }
+    }
+
+    private void reconcile() {
+        try {
+            long started = System.currentTimeMillis();
+            Counters fresh = new Counters();
+
+            // Waits for in-flight writes; writes are held off until the snapshot is fixed,
+            // so the ones after it land in the new counters as well
+            ShipmentTotals totals;
+            lock.writeLock().lock();
+            try {
+                building = fresh;
+                totals = repository.loadTotals(lock.writeLock()::unlock);
+            } finally {
+                if (lock.writeLock().isHeldByCurrentThread()) {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            fresh.add(totals);
+
+            lock.writeLock().lock();
+            try {
+                current = fresh;
+                building = null;
+                reconciledAt = Instant.now();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            loggingService.info("Shipment statistics reconciled in {} ms", System.currentTimeMillis() - started);
+
+        } catch (RuntimeException e) {
+            building = null;
+            loggingService.error("Shipment statistics reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    private static void applyTo(Counters counters, Shipment shipment, int sign) {
+        counters.total.add(sign);
+        increment(counters.byStatus, shipment.getStatus(), sign);
+        increment(counters.byType, shipment.getEntityType().replace("_SHIPMENT", ""), sign);
+        increment(counters.byPriority, shipment.getPriority(), sign);
+
+        long hundredths = sign * Math.round(shipment.getWeight() * 100);
+        increment(counters.weightByWarehouse, shipment.getWarehouseId(), hundredths);
+        increment(counters.weightByVehicle, shipment.getVehicleId(), hundredths);
+    }
+
+    private static <K> void increment(Map<K, LongAdder> counters, K key, long delta) {
+        if (key != null) {
+            counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    private static Map<String, Long> toCounts(Map<String, LongAdder> counters) {
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((key, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                counts.put(key, value);
+            }
+        });
+        return counts;
+    }
+
+    private static Map<Integer, Double> toWeights(Map<Integer, LongAdder> counters) {
+        Map<Integer, Double> weights = new TreeMap<>();
+        counters.forEach((key, hundredths) -> {
+            long value = hundredths.sum();
+            if (value != 0) {
+                weights.put(key, value / 100.0);
+            }
+        });
+        return weights;
+    }
+
+    private static final class Counters {
+        final LongAdder total = new LongAdder();
+        final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> byType = new ConcurrentHashMap<>();
+        final Map<String, LongAdder> byPriority = new ConcurrentHashMap<>();
+        final Map<Integer, LongAdder> weightByWarehouse = new ConcurrentHashMap<>();
+        final Map<Integer, LongAdder> weightByVehicle = new ConcurrentHashMap<>();
+
+        void add(ShipmentTotals totals) {
+            total.add(totals.getTotal());
+            totals.getCountByStatus().forEach((key, count) -> increment(byStatus, key, count));
+            totals.getCountByType().forEach((key, count) -> increment(byType, key, count));
+            totals.getCountByPriority().forEach((key, count) -> increment(byPriority, key, count));
+            totals.getWeightByWarehouse().forEach((key, weight) -> increment(weightByWarehouse, key, toHundredths(weight)));
+            totals.getWeightByVehicle().forEach((key, weight) -> increment(weightByVehicle, key, toHundredths(weight)));
+        }
+
+        private static long toHundredths(BigDecimal weight) {
+            return weight.movePointRight(2).longValue();
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.logistics.service;
+
+import com.logistics.repository.ShipmentLoads;
+
+import java.util.Arrays;
+
+/**
+ * Packs shipments into vehicles by weight: first-fit decreasing over
+ * variable-sized vehicles, followed by a pass that moves each used vehicle's
+ * load onto a cheaper unused vehicle when one can carry it.
+ *
+ * A used vehicle costs its full operating cost whatever it carries, so the
+ * plan tries to keep the total capacity it opens small. Shipments are placed
+ * heaviest first: into the first used vehicle with room, and otherwise into
+ * the cheapest unused vehicle that can carry it. Vehicle types only carry
+ * the shipment types they are fast enough for (see {@link #PREFERRED_TYPES}).
+ *
+ * All state is kept in primitive arrays indexed by shipment and vehicle
+ * position; "first vehicle with room" and "smallest unused vehicle with
+ * room" are answered by max segment trees, so planning takes
+ * O((shipments + vehicles) log vehicles) time.
+ */
+class VehicleAssignmentPlanner {
+
+    static final byte AIR = 0;
+    static final byte SEA = 1;
+    static final byte LAND = 2;
+    private static final int VEHICLE_TYPES = 3;
+
+    /**
+     * Vehicle types each shipment type may travel by, indexed by
+     * {@link ShipmentLoads} type code, in the order open vehicles are tried.
+     * Express (2 days) and standard (5 days) shipments are too urgent for sea
+     * transport; economy shipments go by sea first, since sea vehicles can
+     * carry nothing else.
+     */
+    private static final byte[][] PREFERRED_TYPES = {
+            {LAND, AIR},
+            {LAND, AIR},
+            {SEA, LAND, AIR}
+    };
+
+    // Tolerance for weights that add up to exactly a vehicle's capacity
+    private static final double EPSILON = 1e-9;
+
+    private final double[] weights;
+    private final byte[] shipmentTypes;
+    private final int shipmentCount;
+    private final double[] capacities;
+    private final byte[] vehicleTypes;
+    private final double[] costs;
+    private final int vehicleCount;
+
+    private int vehiclesUsed;
+    private double totalCost;
+    private int unassigned;
+
+    /**
+     * Shipment arrays are read up to shipmentCount, vehicle arrays up to
+     * vehicleCount. Within a vehicle type the cost must grow with the
+     * capacity, as {@code Vehicle.getOperatingCost()} does.
+     */
+    VehicleAssignmentPlanner(double[] weights, byte[] shipmentTypes, int shipmentCount,
+                             double[] capacities, byte[] vehicleTypes, double[] costs, int vehicleCount) {
+        this.weights = weights;
+        this.shipmentTypes = shipmentTypes;
+        this.shipmentCount = shipmentCount;
+        this.capacities = capacities;
+        this.vehicleTypes = vehicleTypes;
+        this.costs = costs;
+        this.vehicleCount = vehicleCount;
+    }
+
+    static byte vehicleTypeCode(String vehicleType) {
+        if (vehicleType == null) {
+            return -1;
+        }
+        switch (vehicleType) {
+            case "AIR":
+                return AIR;
+            case "SEA":
+                return SEA;
+            case "LAND":
+                return LAND;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Returns the position of the vehicle each shipment is assigned to, or -1
+     * for shipments that fit in no vehicle of a suitable type
+     */
+    int[] plan() {
+        int[] vehicleOf = new int[shipmentCount];
+        Arrays.fill(vehicleOf, -1);
+
+        // Per vehicle type: unused vehicles by ascending capacity, whose
+        // leaves hold the capacity while the vehicle is unused
+        int[][] bySize = new int[VEHICLE_TYPES][];
+        MaxTree[] unused = new MaxTree[VEHICLE_TYPES];
+        // Per vehicle type: used vehicles in the order they were taken, whose
+        // leaves hold the capacity left
+        int[][] usedSlots = new int[VEHICLE_TYPES][];
+        int[] usedCount = new int[VEHICLE_TYPES];
+        MaxTree[] room = new MaxTree[VEHICLE_TYPES];
+        // Per vehicle: its position in bySize, and its slot among used vehicles or -1
+        int[] sizeRank = new int[vehicleCount];
+        int[] slotOf = new int[vehicleCount];
+        Arrays.fill(slotOf, -1);
+
+        int[] order = ascending(capacities, vehicleCount);
+        for (byte type = 0; type < VEHICLE_TYPES; type++) {
+            int count = 0;
+            for (int i = 0; i < vehicleCount; i++) {
+                if (vehicleTypes[order[i]] == type) {
+                    count++;
+                }
+            }
+            bySize[type] = new int[count];
+            unused[type] = new MaxTree(count);
+            usedSlots[type] = new int[count];
+            room[type] = new MaxTree(count);
+        }
+        int[] filled = new int[VEHICLE_TYPES];
+        for (int i = 0; i < vehicleCount; i++) {
+            int vehicle = order[i];
+            byte type = vehicleTypes[vehicle];
+            if (type < 0 || type >= VEHICLE_TYPES || !(capacities[vehicle] > 0)) {
+                continue;
+            }
+            int rank = filled[type]++;
+            bySize[type][rank] = vehicle;
+            sizeRank[vehicle] = rank;
+            unused[type].set(rank, capacities[vehicle]);
+        }
+
+        // Heaviest first
+        order = ascending(weights, shipmentCount);
+        for (int i = shipmentCount - 1; i >= 0; i--) {
+            int shipment = order[i];
+            byte shipmentType = shipmentTypes[shipment];
+            if (shipmentType < 0 || shipmentType >= PREFERRED_TYPES.length) {
+                continue;
+            }
+            double weight = Math.max(0, weights[shipment]) - EPSILON;
+
+            // A vehicle already in use carries it at no extra cost
+            int vehicle = -1;
+            for (byte type : PREFERRED_TYPES[shipmentType]) {
+                int slot = room[type].firstAtLeast(weight);
+                if (slot >= 0) {
+                    vehicle = usedSlots[type][slot];
+                    break;
+                }
+            }
+
+            // Otherwise take the cheapest unused vehicle big enough for it
+            if (vehicle < 0) {
+                double cheapest = Double.POSITIVE_INFINITY;
+                for (byte type : PREFERRED_TYPES[shipmentType]) {
+                    int rank = unused[type].firstAtLeast(weight);
+                    if (rank >= 0 && costs[bySize[type][rank]] < cheapest) {
+                        vehicle = bySize[type][rank];
+                        cheapest = costs[vehicle];
+                    }
+                }
+                if (vehicle < 0) {
+                    continue;
+                }
+                byte type = vehicleTypes[vehicle];
+                unused[type].set(sizeRank[vehicle], Double.NEGATIVE_INFINITY);
+                int slot = usedCount[type]++;
+                usedSlots[type][slot] = vehicle;
+                slotOf[vehicle] = slot;
+                room[type].set(slot, capacities[vehicle]);
+            }
+
+            byte type = vehicleTypes[vehicle];
+            int slot = slotOf[vehicle];
+            room[type].set(slot, room[type].get(slot) - Math.max(0, weights[shipment]));
+            vehicleOf[shipment] = vehicle;
+        }
+
+        downsize(vehicleOf, bySize, unused, sizeRank, slotOf, room);
+
+        vehiclesUsed = 0;
+        totalCost = 0;
+        unassigned = 0;
+        boolean[] used = new boolean[vehicleCount];
+        for (int shipment = 0; shipment < shipmentCount; shipment++) {
+            int vehicle = vehicleOf[shipment];
+            if (vehicle < 0) {
+                unassigned++;
+            } else if (!used[vehicle]) {
+                used[vehicle] = true;
+                vehiclesUsed++;
+                totalCost += costs[vehicle];
+            }
+        }
+        return vehicleOf;
+    }
+
+    /**
+     * Moves the load of each used vehicle, fullest first, onto the cheapest
+     * unused vehicle that can carry it and every shipment type on board,
+     * when that vehicle costs less. The vehicles given up become available
+     * to the vehicles moved after them.
+     */
+    private void downsize(int[] vehicleOf, int[][] bySize, MaxTree[] unused, int[] sizeRank,
+                          int[] slotOf, MaxTree[] room) {
+        double[] load = new double[vehicleCount];
+        // Bit per ShipmentLoads type code of the shipments on board
+        int[] carried = new int[vehicleCount];
+        for (int shipment = 0; shipment < shipmentCount; shipment++) {
+            int vehicle = vehicleOf[shipment];
+            if (vehicle >= 0) {
+                load[vehicle] += Math.max(0, weights[shipment]);
+                carried[vehicle] |= 1 << shipmentTypes[shipment];
+            }
+        }
+
+        int[] replacement = new int[vehicleCount];
+        Arrays.fill(replacement, -1);
+        boolean replaced = false;
+
+        int[] order = ascending(load, vehicleCount);
+        for (int i = vehicleCount - 1; i >= 0; i--) {
+            int vehicle = order[i];
+            if (slotOf[vehicle] < 0 || carried[vehicle] == 0) {
+                continue;
+            }
+
+            int best = -1;
+            double cheapest = costs[vehicle];
+            for (byte type = 0; type < VEHICLE_TYPES; type++) {
+                if (!carries(type, carried[vehicle])) {
+                    continue;
+                }
+                int rank = unused[type].firstAtLeast(load[vehicle] - EPSILON);
+                if (rank >= 0 && costs[bySize[type][rank]] < cheapest) {
+                    best = bySize[type][rank];
+                    cheapest = costs[best];
+                }
+            }
+            if (best < 0) {
+                continue;
+            }
+
+            unused[vehicleTypes[best]].set(sizeRank[best], Double.NEGATIVE_INFINITY);
+            unused[vehicleTypes[vehicle]].set(sizeRank[vehicle], capacities[vehicle]);
+            room[vehicleTypes[vehicle]].set(slotOf[vehicle], Double.NEGATIVE_INFINITY);
+            replacement[vehicle] = best;
+            replaced = true;
+        }
+
+        if (replaced) {
+            for (int shipment = 0; shipment < shipmentCount; shipment++) {
+                int vehicle = vehicleOf[shipment];
+                if (vehicle >= 0 && replacement[vehicle] >= 0) {
+                    vehicleOf[shipment] = replacement[vehicle];
+                }
+            }
+        }
+    }
+
+    private static boolean carries(byte vehicleType, int shipmentTypeBits) {
+        for (int shipmentType = 0; shipmentType < PREFERRED_TYPES.length; shipmentType++) {
+            if ((shipmentTypeBits & (1 << shipmentType)) == 0) {
+                continue;
+            }
+            boolean allowed = false;
+            for (byte type : PREFERRED_TYPES[shipmentType]) {
+                allowed |= type == vehicleType;
+            }
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Positions 0..count-1 ordered by ascending value. Sorts packed long keys
+     * (the value as a float in the high bits, the position in the low bits)
+     * so no boxed comparator is needed, then repairs the order among values
+     * that round to the same float. Values must not be negative.
+     */
+    static int[] ascending(double[] values, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            // For non-negative floats the bit pattern orders like the value
+            float key = (float) Math.max(0, values[i]);
+            keys[i] = ((long) Float.floatToIntBits(key) << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) keys[i];
+        }
+        // Insertion sort: only runs of equal floats can be out of order
+        for (int i = 1; i < count; i++) {
+            int position = order[i];
+            int j = i - 1;
+            while (j >= 0 && values[order[j]] > values[position]) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = position;
+        }
+        return order;
+    }
+
+    int getVehiclesUsed() {
+        return vehiclesUsed;
+    }
+
+    double getTotalCost() {
+        return totalCost;
+    }
+
+    int getUnassigned() {
+        return unassigned;
+    }
+
+    /**
+     * Segment tree over a fixed number of leaves that finds the leftmost leaf
+     * holding at least a given value. Leaves start at negative infinity.
+     */
+    private static final class MaxTree {
+        private final double[] tree;
+        private final int leaves;
+
+        MaxTree(int size) {
+            int leaves = 1;
+            while (leaves < size) {
+                leaves <<= 1;
+            }
+            this.leaves = leaves;
+            this.tree = new double[2 * leaves];
+            Arrays.fill(tree, Double.NEGATIVE_INFINITY);
+        }
+
+        double get(int leaf) {
+            return tree[leaves + leaf];
+        }
+
+        void set(int leaf, double value) {
+            int node = leaves + leaf;
+            tree[node] = value;
+            for (node >>= 1; node > 0; node >>= 1) {
+                tree[node] = Math.max(tree[2 * node], tree[2 * node + 1]);
+            }
+        }
+
+        int firstAtLeast(double value) {
+            if (tree[1] < value) {
+                return -1;
+            }
+            int node = 1;
+            while (node < leaves) {
+                node = tree[2 * node] >= value ? 2 * node : 2 * node + 1;
+            }
+            return node - leaves;
+        }
+    }
+}
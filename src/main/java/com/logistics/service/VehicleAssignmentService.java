@@ -0,0 +1,109 @@
+package com.logistics.service;
+
+import com.logistics.dto.VehicleAssignmentResponse;
+import com.logistics.model.Vehicle;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ShipmentLoads;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Assigns vehicles to pending shipments by weight, vehicle type and
+ * operating cost (see {@link VehicleAssignmentPlanner})
+ *
+ * Every PENDING shipment is planned afresh against every AVAILABLE vehicle,
+ * so earlier assignments of pending shipments, manual ones included, may
+ * change. Pending shipments that fit in no vehicle lose their vehicle.
+ */
+@Service
+public class VehicleAssignmentService {
+
+    private static final String PENDING = "PENDING";
+    private static final String AVAILABLE = "AVAILABLE";
+
+    private final ShipmentRepository shipmentRepository;
+    private final VehicleRepository vehicleRepository;
+    private final ShipmentStatistics statistics;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    @Autowired
+    public VehicleAssignmentService(ShipmentRepository shipmentRepository, VehicleRepository vehicleRepository,
+                                    ShipmentStatistics statistics) {
+        this.shipmentRepository = shipmentRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.statistics = statistics;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+    }
+
+    public VehicleAssignmentResponse assignPendingShipments() {
+        ShipmentLoads shipments = shipmentRepository.findLoadsByStatus(PENDING,
+                config.getIntConfig("EXPORT_FETCH_SIZE", 1000));
+        List<Vehicle> vehicles = vehicleRepository.findByStatus(AVAILABLE);
+        loggingService.info("Assigning {} pending shipments to {} available vehicles",
+                shipments.size(), vehicles.size());
+
+        long started = System.nanoTime();
+        int[] vehicleIds = new int[vehicles.size()];
+        double[] capacities = new double[vehicles.size()];
+        byte[] vehicleTypes = new byte[vehicles.size()];
+        double[] costs = new double[vehicles.size()];
+        for (int i = 0; i < vehicles.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            vehicleIds[i] = vehicle.getId();
+            vehicleTypes[i] = VehicleAssignmentPlanner.vehicleTypeCode(vehicle.getVehicleType());
+            if (vehicle.getCapacity() != null) {
+                capacities[i] = vehicle.getCapacity();
+                costs[i] = vehicle.getOperatingCost();
+            }
+        }
+
+        VehicleAssignmentPlanner planner = new VehicleAssignmentPlanner(shipments.getWeights(),
+                shipments.getTypes(), shipments.size(), capacities, vehicleTypes, costs, vehicles.size());
+        int[] plan = planner.plan();
+        long planningMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Only shipments whose vehicle changes are written
+        int[] shipmentIds = shipments.getIds();
+        int[] currentVehicleIds = shipments.getVehicleIds();
+        int[] changedIds = new int[shipments.size()];
+        int[] newVehicleIds = new int[shipments.size()];
+        int changes = 0;
+        for (int i = 0; i < shipments.size(); i++) {
+            int vehicleId = plan[i] >= 0 ? vehicleIds[plan[i]] : 0;
+            if (vehicleId != currentVehicleIds[i]) {
+                changedIds[changes] = shipmentIds[i];
+                newVehicleIds[changes] = vehicleId;
+                changes++;
+            }
+        }
+
+        int updated = changes == 0 ? 0 : shipmentRepository.assignVehicles(changedIds, newVehicleIds, changes,
+                PENDING, config.getIntConfig("BATCH_CHUNK_SIZE", 500));
+        if (updated > 0) {
+            // Weights by vehicle changed for many shipments at once
+            statistics.requestReconcile();
+        }
+
+        VehicleAssignmentResponse response = new VehicleAssignmentResponse();
+        response.setPendingShipments(shipments.size());
+        response.setAvailableVehicles(vehicles.size());
+        response.setAssignedShipments(shipments.size() - planner.getUnassigned());
+        response.setUnassignedShipments(planner.getUnassigned());
+        response.setVehiclesUsed(planner.getVehiclesUsed());
+        response.setTotalOperatingCost(planner.getTotalCost());
+        response.setUpdatedShipments(updated);
+        response.setPlanningMillis(planningMillis);
+
+        loggingService.info("Vehicle assignment completed: {} shipments on {} vehicles, {} unassigned, "
+                        + "{} updated, planned in {} ms", response.getAssignedShipments(), response.getVehiclesUsed(),
+                response.getUnassignedShipments(), updated, planningMillis);
+        return response;
+    }
+}
@@ -0,0 +1,284 @@
+package com.logistics.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Orders one vehicle's stops into trips that start and end at its depot,
+ * each carrying at most the vehicle's capacity, keeping total travel time low
+ *
+ * Three stages, each ending in a complete plan, so when the deadline passes
+ * the best plan so far is returned:
+ * 1. First fit: stops in the order given, a new trip whenever the next stop
+ *    would overload the vehicle or cannot be reached from the previous one.
+ * 2. Clarke-Wright savings: every stop starts on a trip of its own, and
+ *    trips are joined end to start in order of the time the join saves,
+ *    (time back to the depot from i) + (time out to j) - (time from i to j),
+ *    while the load fits. Only each stop's SAVINGS_NEIGHBOURS best joins are
+ *    considered. Kept if it beats first fit.
+ * 3. 2-opt on every trip: reverse the stretch of stops that shortens the
+ *    trip, until no reversal does. Lane times may differ by direction, so a
+ *    reversal is costed over the reversed stretch, not just its two ends.
+ *
+ * Times are in a matrix over locations; several stops may share one.
+ */
+class VehicleRoutePlanner {
+
+    static final int SAVINGS_NEIGHBOURS = 32;
+
+    private static final double EPSILON = 1e-9;
+
+    // The deadline is read once per this many savings joins
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final double[][] hours;
+    private final int depot;
+    private final int[] locations;
+    private final double[] demands;
+    private final double capacity;
+
+    private boolean deadlineReached;
+    private double firstFitHours;
+
+    /**
+     * hours is indexed by location, depot is the depot's location, and stop i
+     * is at locations[i] with demands[i] of load. Every stop must fit in the
+     * capacity and be reachable from and back to the depot.
+     */
+    VehicleRoutePlanner(double[][] hours, int depot, int[] locations, double[] demands, double capacity) {
+        this.hours = hours;
+        this.depot = depot;
+        this.locations = locations;
+        this.demands = demands;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the trips as stop positions in visiting order
+     */
+    List<int[]> plan(long deadlineNanos) {
+        List<int[]> best = firstFit();
+        double bestHours = totalHours(best);
+        firstFitHours = bestHours;
+
+        List<int[]> joined = savings(deadlineNanos);
+        if (joined != null && totalHours(joined) < bestHours - EPSILON) {
+            best = joined;
+        }
+
+        for (int[] trip : best) {
+            if (expired(deadlineNanos)) {
+                break;
+            }
+            twoOpt(trip, deadlineNanos);
+        }
+        return best;
+    }
+
+    private List<int[]> firstFit() {
+        List<int[]> trips = new ArrayList<>();
+        int[] trip = new int[locations.length];
+        int size = 0;
+        double load = 0;
+        for (int stop = 0; stop < locations.length; stop++) {
+            boolean fits = load + demands[stop] <= capacity
+                    && (size == 0 || hours[locations[trip[size - 1]]][locations[stop]] < Double.POSITIVE_INFINITY);
+            if (!fits) {
+                trips.add(Arrays.copyOf(trip, size));
+                size = 0;
+                load = 0;
+            }
+            trip[size++] = stop;
+            load += demands[stop];
+        }
+        if (size > 0) {
+            trips.add(Arrays.copyOf(trip, size));
+        }
+        return trips;
+    }
+
+    /**
+     * Returns null if there are too many stops to key the joins, or if the
+     * deadline passes before joining starts
+     */
+    private List<int[]> savings(long deadlineNanos) {
+        int n = locations.length;
+        // Stop count squared must fit the 32 bits a join has in its sort key
+        if (n < 2 || (long) n * n > 0xFFFFFFFFL) {
+            return null;
+        }
+
+        // Each stop's best joins to a following stop; key = saving's float bits, then i * n + j
+        int neighbours = Math.min(SAVINGS_NEIGHBOURS, n - 1);
+        long[] keys = new long[n * neighbours];
+        int keyCount = 0;
+        double[] bestSavings = new double[neighbours];
+        int[] bestStops = new int[neighbours];
+        for (int i = 0; i < n; i++) {
+            if (expired(deadlineNanos)) {
+                return null;
+            }
+            int found = 0;
+            double back = hours[locations[i]][depot];
+            for (int j = 0; j < n; j++) {
+                double saving = back + hours[depot][locations[j]] - hours[locations[i]][locations[j]];
+                if (i == j || !(saving > 0)) {
+                    continue;
+                }
+                if (found == neighbours && saving <= bestSavings[found - 1]) {
+                    continue;
+                }
+                int at = found < neighbours ? found++ : found - 1;
+                while (at > 0 && bestSavings[at - 1] < saving) {
+                    bestSavings[at] = bestSavings[at - 1];
+                    bestStops[at] = bestStops[at - 1];
+                    at--;
+                }
+                bestSavings[at] = saving;
+                bestStops[at] = j;
+            }
+            for (int k = 0; k < found; k++) {
+                long pair = (long) i * n + bestStops[k];
+                keys[keyCount++] = ((long) Float.floatToIntBits((float) bestSavings[k]) << 32) | pair;
+            }
+        }
+        Arrays.sort(keys, 0, keyCount);
+        if (expired(deadlineNanos)) {
+            return null;
+        }
+
+        // Trips as linked stops; a trip is known by its first stop
+        int[] next = new int[n];
+        int[] first = new int[n];
+        int[] last = new int[n];
+        double[] loads = new double[n];
+        Arrays.fill(next, -1);
+        for (int stop = 0; stop < n; stop++) {
+            first[stop] = stop;
+            last[stop] = stop;
+            loads[stop] = demands[stop];
+        }
+
+        for (int k = keyCount - 1; k >= 0; k--) {
+            if ((keyCount - 1 - k) % DEADLINE_CHECK_INTERVAL == 0 && expired(deadlineNanos)) {
+                break;
+            }
+            long pair = keys[k] & 0xFFFFFFFFL;
+            int i = (int) (pair / n);
+            int j = (int) (pair % n);
+            int tripI = first[i];
+            int tripJ = first[j];
+            // i must end its trip, j must start another, and the two must fit together
+            if (tripI == tripJ || last[tripI] != i || tripJ != j || loads[tripI] + loads[tripJ] > capacity) {
+                continue;
+            }
+            next[i] = j;
+            last[tripI] = last[tripJ];
+            loads[tripI] += loads[tripJ];
+            for (int stop = j; stop >= 0; stop = next[stop]) {
+                first[stop] = tripI;
+            }
+        }
+
+        List<int[]> trips = new ArrayList<>();
+        int[] trip = new int[n];
+        for (int stop = 0; stop < n; stop++) {
+            if (first[stop] != stop) {
+                continue;
+            }
+            int size = 0;
+            for (int at = stop; at >= 0; at = next[at]) {
+                trip[size++] = at;
+            }
+            trips.add(Arrays.copyOf(trip, size));
+        }
+        return trips;
+    }
+
+    /**
+     * Improves one trip in place by segment reversals until none helps or the
+     * deadline passes; every accepted reversal leaves a valid, shorter trip
+     */
+    private void twoOpt(int[] trip, long deadlineNanos) {
+        int m = trip.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < m - 1 && !improved; i++) {
+                if (expired(deadlineNanos)) {
+                    return;
+                }
+                int before = i == 0 ? depot : locations[trip[i - 1]];
+                int start = locations[trip[i]];
+                double forward = 0;
+                double backward = 0;
+                for (int j = i + 1; j < m; j++) {
+                    int previous = locations[trip[j - 1]];
+                    int end = locations[trip[j]];
+                    forward += hours[previous][end];
+                    backward += hours[end][previous];
+                    int after = j == m - 1 ? depot : locations[trip[j + 1]];
+
+                    double current = hours[before][start] + forward + hours[end][after];
+                    double reversed = hours[before][end] + backward + hours[start][after];
+                    if (reversed < current - EPSILON) {
+                        reverse(trip, i, j);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void reverse(int[] trip, int from, int to) {
+        while (from < to) {
+            int stop = trip[from];
+            trip[from++] = trip[to];
+            trip[to--] = stop;
+        }
+    }
+
+    /**
+     * Travel time of a trip, out from the depot and back
+     */
+    double tripHours(int[] trip) {
+        double total = 0;
+        int at = depot;
+        for (int stop : trip) {
+            total += hours[at][locations[stop]];
+            at = locations[stop];
+        }
+        return total + hours[at][depot];
+    }
+
+    private double totalHours(List<int[]> trips) {
+        double total = 0;
+        for (int[] trip : trips) {
+            total += tripHours(trip);
+        }
+        return total;
+    }
+
+    private boolean expired(long deadlineNanos) {
+        if (!deadlineReached && System.nanoTime() - deadlineNanos >= 0) {
+            deadlineReached = true;
+        }
+        return deadlineReached;
+    }
+
+    /**
+     * Whether the deadline cut the plan short
+     */
+    boolean isDeadlineReached() {
+        return deadlineReached;
+    }
+
+    /**
+     * Travel time of the first-fit plan, before savings and 2-opt
+     */
+    double getFirstFitHours() {
+        return firstFitHours;
+    }
+}
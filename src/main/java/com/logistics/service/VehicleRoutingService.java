@@ -0,0 +1,305 @@
+package com.logistics.service;
+
+import com.logistics.dto.RouteStop;
+import com.logistics.dto.VehicleRoutePlan;
+import com.logistics.dto.VehicleRoutePlanResponse;
+import com.logistics.dto.VehicleTrip;
+import com.logistics.exception.InvalidInputException;
+import com.logistics.model.LandVehicle;
+import com.logistics.model.Shipment;
+import com.logistics.model.Vehicle;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plans delivery routes for land vehicles from the pending shipments
+ * assigned to them (see {@link VehicleRoutePlanner})
+ *
+ * Stops are shipment destinations; shipments to one location share a stop
+ * unless together they overload the vehicle. Every trip starts and ends at
+ * the vehicle's depot, the origin most of its shipments share unless one is
+ * given. Travel times come from the lanes (see {@link RouteService}).
+ * Vehicles are planned in parallel, all against one deadline, and a plan
+ * cut short by it is the best found so far. A vehicle whose lane times
+ * between stops are not looked up by then gets no plan: its shipments are
+ * left unrouted.
+ *
+ * Plans are returned, not stored.
+ */
+@Service
+public class VehicleRoutingService {
+
+    private static final String PENDING = "PENDING";
+
+    private final VehicleRepository vehicleRepository;
+    private final ShipmentRepository shipmentRepository;
+    private final RouteService routeService;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    // Vehicles are planned on this pool; its workers are daemon threads
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public VehicleRoutingService(VehicleRepository vehicleRepository, ShipmentRepository shipmentRepository,
+                                 RouteService routeService) {
+        this.vehicleRepository = vehicleRepository;
+        this.shipmentRepository = shipmentRepository;
+        this.routeService = routeService;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+        this.pool = new ForkJoinPool(config.getIntConfig("ROUTE_PLANNING_PARALLELISM",
+                Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Plans routes for the given land vehicles, or for all of them when no
+     * ids are given, within budgetMillis of planning time
+     */
+    public VehicleRoutePlanResponse planRoutes(List<Integer> vehicleIds, Integer budgetMillis, String depot) {
+        long budget = budgetMillis != null ? budgetMillis : config.getIntConfig("ROUTE_PLANNING_BUDGET_MS", 200);
+        int maxBudget = config.getIntConfig("ROUTE_PLANNING_MAX_BUDGET_MS", 10000);
+        if (budget <= 0 || budget > maxBudget) {
+            throw new InvalidInputException("Budget must be between 1 and " + maxBudget + " ms");
+        }
+        long started = System.nanoTime();
+        long deadline = started + budget * 1_000_000;
+
+        Map<Integer, LandVehicle> vehicles = findLandVehicles(vehicleIds);
+        Map<Integer, List<Shipment>> shipmentsByVehicle = new HashMap<>();
+        shipmentRepository.streamAssignedToVehicles(PENDING, config.getIntConfig("EXPORT_FETCH_SIZE", 1000),
+                shipment -> {
+                    if (vehicles.containsKey(shipment.getVehicleId())) {
+                        shipmentsByVehicle.computeIfAbsent(shipment.getVehicleId(), id -> new ArrayList<>())
+                                .add(shipment);
+                    }
+                });
+        RouteGraph graph = routeService.currentGraph();
+
+        List<Callable<VehicleRoutePlan>> tasks = new ArrayList<>();
+        for (LandVehicle vehicle : vehicles.values()) {
+            List<Shipment> shipments = shipmentsByVehicle.getOrDefault(vehicle.getId(), List.of());
+            tasks.add(() -> planVehicle(graph, vehicle, shipments, depot, deadline));
+        }
+
+        List<VehicleRoutePlan> routes = new ArrayList<>();
+        try {
+            for (Future<VehicleRoutePlan> future : pool.invokeAll(tasks)) {
+                routes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while planning routes", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        VehicleRoutePlanResponse response = new VehicleRoutePlanResponse();
+        int shipments = 0;
+        int unrouted = 0;
+        double totalHours = 0;
+        boolean deadlineReached = false;
+        for (VehicleRoutePlan route : routes) {
+            shipments += route.getShipments();
+            unrouted += route.getUnroutedShipmentIds().size();
+            totalHours += route.getTotalHours();
+            deadlineReached |= route.isDeadlineReached();
+        }
+        response.setVehicles(routes.size());
+        response.setShipments(shipments);
+        response.setRoutedShipments(shipments - unrouted);
+        response.setUnroutedShipments(unrouted);
+        response.setTotalHours(totalHours);
+        response.setBudgetMillis(budget);
+        response.setPlanningMillis((System.nanoTime() - started) / 1_000_000);
+        response.setDeadlineReached(deadlineReached);
+        response.setRoutes(routes);
+
+        loggingService.info("Planned routes for {} shipments on {} land vehicles in {} ms ({} unrouted{})",
+                shipments, routes.size(), response.getPlanningMillis(), unrouted,
+                deadlineReached ? ", budget reached" : "");
+        return response;
+    }
+
+    private Map<Integer, LandVehicle> findLandVehicles(List<Integer> vehicleIds) {
+        Map<Integer, LandVehicle> vehicles = new LinkedHashMap<>();
+        if (vehicleIds == null || vehicleIds.isEmpty()) {
+            for (Vehicle vehicle : vehicleRepository.findAll()) {
+                if (vehicle instanceof LandVehicle) {
+                    vehicles.put(vehicle.getId(), (LandVehicle) vehicle);
+                }
+            }
+            return vehicles;
+        }
+
+        for (Integer id : vehicleIds) {
+            Vehicle vehicle = vehicleRepository.findById(id);
+            if (!(vehicle instanceof LandVehicle)) {
+                throw new InvalidInputException("Vehicle " + id + " is not a land vehicle");
+            }
+            vehicles.put(id, (LandVehicle) vehicle);
+        }
+        return vehicles;
+    }
+
+    private VehicleRoutePlan planVehicle(RouteGraph graph, LandVehicle vehicle, List<Shipment> shipments,
+                                         String depot, long deadline) {
+        double capacity = vehicle.getCapacity() != null ? vehicle.getCapacity() : 0;
+        String depotName = depot != null && !depot.isBlank() ? depot.trim() : commonOrigin(shipments);
+
+        VehicleRoutePlan plan = new VehicleRoutePlan();
+        plan.setVehicleId(vehicle.getId());
+        plan.setName(vehicle.getName());
+        plan.setCapacity(capacity);
+        plan.setDepot(depotName);
+        plan.setShipments(shipments.size());
+        plan.setTrips(new ArrayList<>());
+        plan.setUnroutedShipmentIds(new ArrayList<>());
+
+        // Location 0 is the depot, then every distinct destination in shipment order
+        int depotNode = depotName != null ? graph.locationOf(depotName) : -1;
+        List<Integer> nodes = new ArrayList<>();
+        Map<Integer, Integer> locationOfNode = new HashMap<>();
+        nodes.add(depotNode);
+        if (depotNode >= 0) {
+            locationOfNode.put(depotNode, 0);
+        }
+
+        // Shipments to one location are packed into stops that each fit the vehicle
+        List<Integer> stopLocations = new ArrayList<>();
+        List<Double> stopLoads = new ArrayList<>();
+        List<List<Shipment>> stopShipments = new ArrayList<>();
+        Map<Integer, Integer> openStop = new HashMap<>();
+        for (Shipment shipment : shipments) {
+            double weight = shipment.getWeight() != null ? shipment.getWeight() : 0;
+            int node = graph.locationOf(shipment.getDestination());
+            if (depotNode < 0 || node < 0 || weight > capacity) {
+                plan.getUnroutedShipmentIds().add(shipment.getId());
+                continue;
+            }
+            int location = locationOfNode.computeIfAbsent(node, key -> {
+                nodes.add(key);
+                return nodes.size() - 1;
+            });
+            Integer stop = openStop.get(location);
+            if (stop == null || stopLoads.get(stop) + weight > capacity) {
+                stop = stopLocations.size();
+                stopLocations.add(location);
+                stopLoads.add(0.0);
+                stopShipments.add(new ArrayList<>());
+                openStop.put(location, stop);
+            }
+            stopLoads.set(stop, stopLoads.get(stop) + weight);
+            stopShipments.get(stop).add(shipment);
+        }
+        if (stopLocations.isEmpty()) {
+            return plan;
+        }
+
+        double[][] hours = graph.travelHours(nodes.stream().mapToInt(Integer::intValue).toArray(), deadline);
+        if (hours == null) {
+            // Out of budget before the lane times were known, so not even a first-fit plan
+            for (List<Shipment> stop : stopShipments) {
+                for (Shipment shipment : stop) {
+                    plan.getUnroutedShipmentIds().add(shipment.getId());
+                }
+            }
+            plan.setDeadlineReached(true);
+            return plan;
+        }
+
+        // Stops the depot cannot reach, or return from, are left out
+        List<Integer> routable = new ArrayList<>();
+        for (int stop = 0; stop < stopLocations.size(); stop++) {
+            int location = stopLocations.get(stop);
+            if (hours[0][location] < Double.POSITIVE_INFINITY && hours[location][0] < Double.POSITIVE_INFINITY) {
+                routable.add(stop);
+            } else {
+                for (Shipment shipment : stopShipments.get(stop)) {
+                    plan.getUnroutedShipmentIds().add(shipment.getId());
+                }
+            }
+        }
+        if (routable.isEmpty()) {
+            return plan;
+        }
+
+        int[] locations = new int[routable.size()];
+        double[] demands = new double[routable.size()];
+        for (int i = 0; i < routable.size(); i++) {
+            locations[i] = stopLocations.get(routable.get(i));
+            demands[i] = stopLoads.get(routable.get(i));
+        }
+        VehicleRoutePlanner planner = new VehicleRoutePlanner(hours, 0, locations, demands, capacity);
+        List<int[]> trips = planner.plan(deadline);
+
+        double totalHours = 0;
+        for (int[] trip : trips) {
+            VehicleTrip vehicleTrip = new VehicleTrip();
+            List<RouteStop> stops = new ArrayList<>(trip.length);
+            double load = 0;
+            double arrival = 0;
+            int at = 0;
+            for (int position : trip) {
+                arrival += hours[at][locations[position]];
+                at = locations[position];
+                load += demands[position];
+
+                RouteStop stop = new RouteStop();
+                stop.setLocation(graph.nameOf(nodes.get(at)));
+                stop.setArrivalHours(arrival);
+                stop.setLoad(demands[position]);
+                List<Integer> ids = new ArrayList<>();
+                for (Shipment shipment : stopShipments.get(routable.get(position))) {
+                    ids.add(shipment.getId());
+                }
+                stop.setShipmentIds(ids);
+                stops.add(stop);
+            }
+            vehicleTrip.setLoad(load);
+            vehicleTrip.setHours(planner.tripHours(trip));
+            vehicleTrip.setStops(stops);
+            plan.getTrips().add(vehicleTrip);
+            totalHours += vehicleTrip.getHours();
+        }
+        plan.setTotalHours(totalHours);
+        plan.setFirstFitHours(planner.getFirstFitHours());
+        plan.setDeadlineReached(planner.isDeadlineReached());
+        return plan;
+    }
+
+    // The origin most shipments share, matched as Locations does; on ties the first to get there
+    private static String commonOrigin(List<Shipment> shipments) {
+        Map<String, Integer> counts = new HashMap<>();
+        String best = null;
+        int bestCount = 0;
+        for (Shipment shipment : shipments) {
+            if (shipment.getOrigin() == null) {
+                continue;
+            }
+            int count = counts.merge(Locations.key(shipment.getOrigin()), 1, Integer::sum);
+            if (count > bestCount) {
+                best = shipment.getOrigin();
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+}
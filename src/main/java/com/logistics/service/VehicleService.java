@@ -1,14 +1,20 @@
 package com.logistics.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.dto.ImportResponse;
 import com.logistics.dto.VehicleDTO;
 import com.logistics.exception.InvalidInputException;
 import com.logistics.model.*;
 import com.logistics.patterns.factory.VehicleFactory;
 import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
 import com.logistics.repository.VehicleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,35 +23,48 @@ public class VehicleService {
 
     private final VehicleRepository repository;
     private final VehicleFactory factory;
+    private final ObjectMapper objectMapper;
     private final LoggingService loggingService;
+    private final LogisticsConfig config;
 
     @Autowired
-    public VehicleService(VehicleRepository repository, VehicleFactory factory) {
+    public VehicleService(VehicleRepository repository, VehicleFactory factory, ObjectMapper objectMapper) {
         this.repository = repository;
         this.factory = factory;
+        this.objectMapper = objectMapper;
         this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
     }
 
     public VehicleDTO createVehicle(VehicleDTO dto) {
         validateVehicleDTO(dto);
-        loggingService.info("Creating vehicle: " + dto.getName());
+        loggingService.info("Creating vehicle: {}", dto.getName());
 
-        Vehicle vehicle = factory.createVehicle(dto.getVehicleType());
-        vehicle.setName(dto.getName());
-        vehicle.setLicensePlate(dto.getLicensePlate());
-        vehicle.setCapacity(dto.getCapacity());
-        vehicle.setStatus(dto.getStatus() != null ? dto.getStatus() : "AVAILABLE");
+        Vehicle created = repository.create(buildVehicle(dto));
+        return convertToDTO(created);
+    }
 
-        if (vehicle instanceof AirVehicle && dto.getMaxAltitude() != null) {
-            ((AirVehicle) vehicle).setMaxAltitude(dto.getMaxAltitude());
-        } else if (vehicle instanceof SeaVehicle && dto.getCargoType() != null) {
-            ((SeaVehicle) vehicle).setCargoType(dto.getCargoType());
-        } else if (vehicle instanceof LandVehicle && dto.getFuelType() != null) {
-            ((LandVehicle) vehicle).setFuelType(dto.getFuelType());
+    /**
+     * Streams a CSV or NDJSON upload into the vehicles table with PostgreSQL COPY
+     */
+    public ImportResponse importVehicles(InputStream in, String contentType) {
+        loggingService.info("Importing vehicles from {}", contentType);
+
+        try (BulkRecordReader<VehicleDTO> reader =
+                     new BulkRecordReader<>(in, contentType, VehicleDTO.class, objectMapper)) {
+            ImportPipeline<VehicleDTO, Vehicle> rows = new ImportPipeline<>(reader, dto -> {
+                validateVehicleDTO(dto);
+                return buildVehicle(dto);
+            }, config.getIntConfig("IMPORT_MAX_REPORTED_REJECTIONS", 100));
+
+            ImportResponse response = rows.toResponse("vehicles", repository.bulkLoad(rows));
+            loggingService.info("Vehicle import completed: {} inserted, {} skipped, {} rejected",
+                    response.getInserted(), response.getSkipped(), response.getRejected());
+            return response;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        Vehicle created = repository.create(vehicle);
-        return convertToDTO(created);
     }
 
     public List<VehicleDTO> getAllVehicles() {
@@ -98,6 +117,24 @@ public class VehicleService {
         }
     }
 
+    private Vehicle buildVehicle(VehicleDTO dto) {
+        Vehicle vehicle = factory.createVehicle(dto.getVehicleType());
+        vehicle.setName(dto.getName());
+        vehicle.setLicensePlate(dto.getLicensePlate());
+        vehicle.setCapacity(dto.getCapacity());
+        vehicle.setStatus(dto.getStatus() != null ? dto.getStatus() : "AVAILABLE");
+
+        if (vehicle instanceof AirVehicle && dto.getMaxAltitude() != null) {
+            ((AirVehicle) vehicle).setMaxAltitude(dto.getMaxAltitude());
+        } else if (vehicle instanceof SeaVehicle && dto.getCargoType() != null) {
+            ((SeaVehicle) vehicle).setCargoType(dto.getCargoType());
+        } else if (vehicle instanceof LandVehicle && dto.getFuelType() != null) {
+            ((LandVehicle) vehicle).setFuelType(dto.getFuelType());
+        }
+
+        return vehicle;
+    }
+
     private VehicleDTO convertToDTO(Vehicle vehicle) {
         VehicleDTO dto = new VehicleDTO();
         dto.setId(vehicle.getId());
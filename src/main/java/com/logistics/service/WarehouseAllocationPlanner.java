@@ -0,0 +1,288 @@
+package com.logistics.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Spreads shipments over warehouses so that every warehouse ends up close to
+ * the same utilization (current load against capacity), keeping shipments in
+ * a warehouse at their origin, or else their destination, where that does
+ * not unbalance the result.
+ *
+ * Warehouses are grouped into regions by location. The target utilization is
+ * what every warehouse would reach if the total load were spread perfectly.
+ * Each shipment is routed to the region of its origin, or of its destination,
+ * and every region places its shipments, heaviest first, into its least
+ * utilized warehouse until the region reaches the target. Regions are
+ * independent up to that point and are solved in parallel on a fork-join
+ * pool. Shipments a region cannot take, and shipments with no local region,
+ * are then placed one by one into the warehouse left least utilized, with
+ * locality breaking ties between warehouses within 0.1% of each other.
+ *
+ * Loads are whole units, as in warehouses.current_load; a shipment's load
+ * is its weight rounded up.
+ */
+class WarehouseAllocationPlanner {
+
+    // Utilizations closer than this count as a tie in the final placement
+    private static final double TIE_TOLERANCE = 0.001;
+
+    private final int[] capacities;
+    private final int[] loads;
+    private final int[] shipmentLoads;
+    private final int[] originRegion;
+    private final int[] destinationRegion;
+
+    private final int[] regionOf;
+    private final int[][] regionWarehouses;
+    private final int[] addedLoads;
+    private double targetUtilization;
+    private int localShipments;
+
+    /**
+     * Warehouse arrays are indexed by warehouse position, shipment arrays by
+     * shipment position. Locations, origins and destinations are matched as
+     * {@link Locations} does.
+     */
+    WarehouseAllocationPlanner(int[] capacities, int[] loads, String[] locations,
+                               double[] weights, String[] origins, String[] destinations) {
+        this.capacities = capacities;
+        this.loads = loads;
+        this.addedLoads = new int[capacities.length];
+
+        Map<String, Integer> regions = new HashMap<>();
+        this.regionOf = new int[capacities.length];
+        int[] regionSizes = new int[capacities.length];
+        for (int w = 0; w < capacities.length; w++) {
+            int region = regions.computeIfAbsent(Locations.key(locations[w]), key -> regions.size());
+            regionOf[w] = region;
+            regionSizes[region]++;
+        }
+        this.regionWarehouses = new int[regions.size()][];
+        for (int r = 0; r < regionWarehouses.length; r++) {
+            regionWarehouses[r] = new int[regionSizes[r]];
+            regionSizes[r] = 0;
+        }
+        for (int w = 0; w < capacities.length; w++) {
+            int region = regionOf[w];
+            regionWarehouses[region][regionSizes[region]++] = w;
+        }
+
+        this.shipmentLoads = new int[weights.length];
+        this.originRegion = new int[weights.length];
+        this.destinationRegion = new int[weights.length];
+        for (int s = 0; s < weights.length; s++) {
+            shipmentLoads[s] = (int) Math.max(0, Math.ceil(weights[s]));
+            originRegion[s] = regions.getOrDefault(Locations.key(origins[s]), -1);
+            destinationRegion[s] = regions.getOrDefault(Locations.key(destinations[s]), -1);
+        }
+    }
+
+    /**
+     * Returns the position of the warehouse each shipment is placed in, or -1
+     * for shipments that fit in no warehouse
+     */
+    int[] plan(ForkJoinPool pool) {
+        int[] warehouseOf = new int[shipmentLoads.length];
+        Arrays.fill(warehouseOf, -1);
+        Arrays.fill(addedLoads, 0);
+        localShipments = 0;
+
+        long totalCapacity = 0;
+        long totalLoad = 0;
+        for (int w = 0; w < capacities.length; w++) {
+            totalCapacity += capacities[w];
+            totalLoad += loads[w];
+        }
+        for (int load : shipmentLoads) {
+            totalLoad += load;
+        }
+        targetUtilization = totalCapacity == 0 ? 0 : Math.min(1.0, (double) totalLoad / totalCapacity);
+
+        // Route each shipment to the region of its origin, else of its destination
+        int regionCount = regionWarehouses.length;
+        int[] routedCounts = new int[regionCount + 1];
+        for (int s = 0; s < shipmentLoads.length; s++) {
+            routedCounts[route(s) + 1]++;
+        }
+        int[][] routed = new int[regionCount + 1][];
+        for (int r = 0; r <= regionCount; r++) {
+            routed[r] = new int[routedCounts[r]];
+            routedCounts[r] = 0;
+        }
+        for (int s = 0; s < shipmentLoads.length; s++) {
+            int slot = route(s) + 1;
+            routed[slot][routedCounts[slot]++] = s;
+        }
+
+        // Regions touch disjoint warehouses and shipments, so they run in parallel;
+        // each leaves the shipments it could not take in its spill slot
+        int[][] spilled = new int[regionCount][];
+        if (regionCount > 0) {
+            pool.invoke(new RegionTask(0, regionCount, routed, warehouseOf, spilled));
+        }
+
+        int spillCount = routed[0].length;
+        for (int[] spill : spilled) {
+            spillCount += spill.length;
+        }
+        int[] remaining = Arrays.copyOf(routed[0], spillCount);
+        int next = routed[0].length;
+        for (int[] spill : spilled) {
+            System.arraycopy(spill, 0, remaining, next, spill.length);
+            next += spill.length;
+        }
+        placeAnywhere(heaviestFirst(remaining), warehouseOf);
+
+        for (int s = 0; s < warehouseOf.length; s++) {
+            int w = warehouseOf[s];
+            if (w >= 0 && (regionOf[w] == originRegion[s] || regionOf[w] == destinationRegion[s])) {
+                localShipments++;
+            }
+        }
+        return warehouseOf;
+    }
+
+    /**
+     * Places a region's shipments in its warehouses, least utilized first,
+     * without taking the region past the target utilization
+     */
+    private int[] solveRegion(int region, int[] shipments, int[] warehouseOf) {
+        int[] warehouses = regionWarehouses[region];
+        long capacity = 0;
+        long load = 0;
+        for (int w : warehouses) {
+            capacity += capacities[w];
+            load += loads[w];
+        }
+        long budget = (long) Math.floor(targetUtilization * capacity) - load;
+
+        int[] spill = new int[shipments.length];
+        int spillCount = 0;
+        for (int s : heaviestFirst(shipments)) {
+            int size = shipmentLoads[s];
+            int best = -1;
+            if (size <= budget) {
+                double bestUtilization = Double.POSITIVE_INFINITY;
+                for (int w : warehouses) {
+                    long after = (long) loads[w] + addedLoads[w] + size;
+                    if (after <= capacities[w] && (double) after / capacities[w] < bestUtilization) {
+                        best = w;
+                        bestUtilization = (double) after / capacities[w];
+                    }
+                }
+            }
+            if (best < 0) {
+                spill[spillCount++] = s;
+                continue;
+            }
+            addedLoads[best] += size;
+            budget -= size;
+            warehouseOf[s] = best;
+        }
+        return Arrays.copyOf(spill, spillCount);
+    }
+
+    /**
+     * Places each shipment in the warehouse it leaves least utilized,
+     * preferring its origin and then its destination among near ties
+     */
+    private void placeAnywhere(int[] shipments, int[] warehouseOf) {
+        for (int s : shipments) {
+            int size = shipmentLoads[s];
+            int best = -1;
+            double bestUtilization = Double.POSITIVE_INFINITY;
+            int bestLocality = -1;
+            for (int w = 0; w < capacities.length; w++) {
+                long after = (long) loads[w] + addedLoads[w] + size;
+                if (after > capacities[w]) {
+                    continue;
+                }
+                double utilization = (double) after / capacities[w];
+                int locality = regionOf[w] == originRegion[s] ? 2 : regionOf[w] == destinationRegion[s] ? 1 : 0;
+                boolean tie = Math.abs(utilization - bestUtilization) < TIE_TOLERANCE;
+                if (tie ? locality > bestLocality : utilization < bestUtilization) {
+                    best = w;
+                    bestUtilization = utilization;
+                    bestLocality = locality;
+                }
+            }
+            if (best >= 0) {
+                addedLoads[best] += size;
+                warehouseOf[s] = best;
+            }
+        }
+    }
+
+    private int route(int shipment) {
+        return originRegion[shipment] >= 0 ? originRegion[shipment] : destinationRegion[shipment];
+    }
+
+    private int[] heaviestFirst(int[] shipments) {
+        long[] keys = new long[shipments.length];
+        for (int i = 0; i < shipments.length; i++) {
+            // Descending load, then ascending position
+            keys[i] = ((long) (Integer.MAX_VALUE - shipmentLoads[shipments[i]]) << 32) | shipments[i];
+        }
+        Arrays.sort(keys);
+        int[] ordered = new int[shipments.length];
+        for (int i = 0; i < keys.length; i++) {
+            ordered[i] = (int) keys[i];
+        }
+        return ordered;
+    }
+
+    /**
+     * Load added to each warehouse by the last plan
+     */
+    int[] getAddedLoads() {
+        return addedLoads;
+    }
+
+    int getRegionCount() {
+        return regionWarehouses.length;
+    }
+
+    double getTargetUtilization() {
+        return targetUtilization;
+    }
+
+    int getLocalShipments() {
+        return localShipments;
+    }
+
+    /**
+     * Solves the regions in [from, to), splitting the range in halves
+     */
+    private final class RegionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int[][] routed;
+        private final int[] warehouseOf;
+        private final int[][] spilled;
+
+        RegionTask(int from, int to, int[][] routed, int[] warehouseOf, int[][] spilled) {
+            this.from = from;
+            this.to = to;
+            this.routed = routed;
+            this.warehouseOf = warehouseOf;
+            this.spilled = spilled;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                spilled[from] = solveRegion(from, routed[from + 1], warehouseOf);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RegionTask(from, middle, routed, warehouseOf, spilled),
+                    new RegionTask(middle, to, routed, warehouseOf, spilled));
+        }
+    }
+}
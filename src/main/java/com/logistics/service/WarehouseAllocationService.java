@@ -0,0 +1,192 @@
+package com.logistics.service;
+
+import com.logistics.dto.ShipmentAllocation;
+import com.logistics.dto.WarehouseAllocation;
+import com.logistics.dto.WarehouseAllocationResponse;
+import com.logistics.exception.ConcurrentUpdateException;
+import com.logistics.model.Shipment;
+import com.logistics.model.Warehouse;
+import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.ShipmentRepository;
+import com.logistics.repository.WarehouseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Places pending shipments that have no warehouse yet, balancing warehouse
+ * utilization (see {@link WarehouseAllocationPlanner})
+ *
+ * A plan is applied in one transaction with conditional updates, so two
+ * allocations running at once can neither over-fill a warehouse nor place
+ * the same shipment twice. The one that loses is rolled back and planned
+ * again from fresh data, up to MAX_RETRY_ATTEMPTS times.
+ */
+@Service
+public class WarehouseAllocationService {
+
+    private static final String PENDING = "PENDING";
+
+    private final WarehouseRepository warehouseRepository;
+    private final ShipmentRepository shipmentRepository;
+    private final ShipmentStatistics statistics;
+    private final WarehouseReservationLedger ledger;
+    private final LoggingService loggingService;
+    private final LogisticsConfig config;
+
+    // Regions are solved on this pool; its workers are daemon threads
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public WarehouseAllocationService(WarehouseRepository warehouseRepository, ShipmentRepository shipmentRepository,
+                                      ShipmentStatistics statistics, WarehouseReservationLedger ledger) {
+        this.warehouseRepository = warehouseRepository;
+        this.shipmentRepository = shipmentRepository;
+        this.statistics = statistics;
+        this.ledger = ledger;
+        this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
+        this.pool = new ForkJoinPool(config.getIntConfig("ALLOCATION_PARALLELISM",
+                Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Plans the allocation and, when apply is set, applies it
+     */
+    public WarehouseAllocationResponse allocatePendingShipments(boolean apply) {
+        int maxAttempts = apply ? Math.max(1, config.getIntConfig("MAX_RETRY_ATTEMPTS", 3)) : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            List<Warehouse> warehouses = warehouseRepository.findAll();
+            List<Shipment> shipments = new ArrayList<>();
+            shipmentRepository.streamWithoutWarehouse(PENDING, config.getIntConfig("EXPORT_FETCH_SIZE", 1000),
+                    shipments::add);
+
+            long started = System.nanoTime();
+            int[] capacities = new int[warehouses.size()];
+            int[] loads = new int[warehouses.size()];
+            String[] locations = new String[warehouses.size()];
+            for (int w = 0; w < warehouses.size(); w++) {
+                Warehouse warehouse = warehouses.get(w);
+                capacities[w] = warehouse.getCapacity();
+                loads[w] = warehouse.getCurrentLoad() != null ? warehouse.getCurrentLoad() : 0;
+                locations[w] = warehouse.getLocation();
+            }
+            double[] weights = new double[shipments.size()];
+            String[] origins = new String[shipments.size()];
+            String[] destinations = new String[shipments.size()];
+            for (int s = 0; s < shipments.size(); s++) {
+                Shipment shipment = shipments.get(s);
+                weights[s] = shipment.getWeight() != null ? shipment.getWeight() : 0;
+                origins[s] = shipment.getOrigin();
+                destinations[s] = shipment.getDestination();
+            }
+
+            WarehouseAllocationPlanner planner = new WarehouseAllocationPlanner(capacities, loads, locations,
+                    weights, origins, destinations);
+            int[] plan = planner.plan(pool);
+            long planningMillis = (System.nanoTime() - started) / 1_000_000;
+
+            WarehouseAllocationResponse response = toResponse(warehouses, shipments, plan, planner);
+            response.setAttempts(attempt);
+            response.setPlanningMillis(planningMillis);
+
+            if (!apply) {
+                return response;
+            }
+            if (response.getAllocations().isEmpty() || applyPlan(response)) {
+                response.setApplied(true);
+                if (!response.getAllocations().isEmpty()) {
+                    statistics.requestReconcile();
+                }
+                loggingService.info("Allocated {} of {} shipments to warehouses ({} local) in {} regions, "
+                                + "planned in {} ms", response.getAllocatedShipments(), response.getShipments(),
+                        response.getLocalShipments(), response.getRegions(), planningMillis);
+                return response;
+            }
+
+            if (attempt >= maxAttempts) {
+                throw new ConcurrentUpdateException("Warehouse allocation conflicted with concurrent changes "
+                        + attempt + " times, try again later");
+            }
+            loggingService.warn("Warehouse allocation attempt {} conflicted with a concurrent change, replanning",
+                    attempt);
+        }
+    }
+
+    private boolean applyPlan(WarehouseAllocationResponse response) {
+        // findAll returns warehouses by id, so every allocator locks them in the same order
+        List<WarehouseAllocation> warehouses = response.getWarehouses();
+        int[] warehouseIds = new int[warehouses.size()];
+        int[] addedLoads = new int[warehouses.size()];
+        for (int i = 0; i < warehouses.size(); i++) {
+            warehouseIds[i] = warehouses.get(i).getWarehouseId();
+            addedLoads[i] = warehouses.get(i).getAllocatedLoad();
+        }
+
+        List<ShipmentAllocation> allocations = response.getAllocations();
+        int[] shipmentIds = new int[allocations.size()];
+        int[] shipmentWarehouseIds = new int[allocations.size()];
+        for (int i = 0; i < allocations.size(); i++) {
+            shipmentIds[i] = allocations.get(i).getShipmentId();
+            shipmentWarehouseIds[i] = allocations.get(i).getWarehouseId();
+        }
+
+        boolean applied = warehouseRepository.allocate(warehouseIds, addedLoads, warehouseIds.length,
+                shipmentIds, shipmentWarehouseIds, shipmentIds.length, PENDING,
+                config.getIntConfig("BATCH_CHUNK_SIZE", 500));
+        if (applied) {
+            for (int warehouseId : warehouseIds) {
+                ledger.invalidate(warehouseId);
+            }
+        }
+        return applied;
+    }
+
+    private WarehouseAllocationResponse toResponse(List<Warehouse> warehouses, List<Shipment> shipments, int[] plan,
+                                                   WarehouseAllocationPlanner planner) {
+        int[] shipmentCounts = new int[warehouses.size()];
+        List<ShipmentAllocation> allocations = new ArrayList<>();
+        for (int s = 0; s < plan.length; s++) {
+            if (plan[s] >= 0) {
+                shipmentCounts[plan[s]]++;
+                allocations.add(new ShipmentAllocation(shipments.get(s).getId(), warehouses.get(plan[s]).getId()));
+            }
+        }
+
+        int[] addedLoads = planner.getAddedLoads();
+        List<WarehouseAllocation> allocated = new ArrayList<>();
+        for (int w = 0; w < warehouses.size(); w++) {
+            if (shipmentCounts[w] == 0) {
+                continue;
+            }
+            Warehouse warehouse = warehouses.get(w);
+            int currentLoad = warehouse.getCurrentLoad() != null ? warehouse.getCurrentLoad() : 0;
+            WarehouseAllocation allocation = new WarehouseAllocation();
+            allocation.setWarehouseId(warehouse.getId());
+            allocation.setName(warehouse.getName());
+            allocation.setLocation(warehouse.getLocation());
+            allocation.setCapacity(warehouse.getCapacity());
+            allocation.setCurrentLoad(currentLoad);
+            allocation.setAllocatedLoad(addedLoads[w]);
+            allocation.setAllocatedShipments(shipmentCounts[w]);
+            allocation.setUtilizationPercentage((currentLoad + addedLoads[w]) * 100.0 / warehouse.getCapacity());
+            allocated.add(allocation);
+        }
+
+        WarehouseAllocationResponse response = new WarehouseAllocationResponse();
+        response.setShipments(shipments.size());
+        response.setAllocatedShipments(allocations.size());
+        response.setUnallocatedShipments(shipments.size() - allocations.size());
+        response.setLocalShipments(planner.getLocalShipments());
+        response.setRegions(planner.getRegionCount());
+        response.setTargetUtilizationPercentage(planner.getTargetUtilization() * 100);
+        response.setWarehouses(allocated);
+        response.setAllocations(allocations);
+        return response;
+    }
+}
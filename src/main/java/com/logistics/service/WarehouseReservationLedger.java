@@ -0,0 +1,333 @@
+package com.logistics.service;
+
+import com.logistics.dto.WarehouseReservationResponse;
+import com.logistics.exception.InvalidInputException;
+import com.logistics.model.Warehouse;
+import com.logistics.patterns.singleton.LogisticsConfig;
+import com.logistics.repository.WarehouseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Applies warehouse load reservations and releases as conditional updates,
+ * merging the ones that arrive together for the same warehouse into one
+ *
+ * Warehouses are spread over RESERVATION_LEDGER_STRIPES stripes by id. A
+ * request joins its stripe's queue and either waits or, if nobody is
+ * settling the stripe, settles it: the queued requests are grouped by
+ * warehouse, admitted in arrival order against the warehouse's last known
+ * load, and each warehouse gets one UPDATE for its net change. A hot
+ * warehouse therefore takes one row update per round instead of one per
+ * request, and warehouses on other stripes never wait for it.
+ *
+ * The database stays the authority. The known loads are only a hint. The
+ * update adds the net change and only matches while every admitted request,
+ * applied in order from the row's actual load, stays between zero and the
+ * capacity, so writes that bypass the ledger (edits, allocations, other
+ * instances) never make it over-fill a warehouse or confirm an order that
+ * could not have happened. If the update misses, the round's requests are
+ * applied one by one instead. A load is only remembered if no invalidation
+ * happened while it was settled, as in ShipmentCache. A request is answered
+ * once its update has committed.
+ */
+@Component
+public class WarehouseReservationLedger {
+
+    private final WarehouseRepository repository;
+    private final LogisticsConfig config;
+    private final Stripe[] stripes;
+
+    @Autowired
+    public WarehouseReservationLedger(WarehouseRepository repository) {
+        this.repository = repository;
+        this.config = LogisticsConfig.getInstance();
+
+        // A power of two, so a stripe is picked with a mask
+        int requested = Math.max(1, config.getIntConfig("RESERVATION_LEDGER_STRIPES", 64));
+        this.stripes = new Stripe[Integer.highestOneBit(Math.min(requested, 1 << 16))];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Adds quantity to the warehouse's load if it fits in its capacity
+     */
+    public WarehouseReservationResponse reserve(Integer warehouseId, int quantity) {
+        return submit(new Reservation(warehouseId, quantity));
+    }
+
+    /**
+     * Takes quantity out of the warehouse's load if it holds that much
+     */
+    public WarehouseReservationResponse release(Integer warehouseId, int quantity) {
+        return submit(new Reservation(warehouseId, -quantity));
+    }
+
+    /**
+     * Forgets the known load of a warehouse whose row was written elsewhere
+     */
+    public void invalidate(Integer warehouseId) {
+        Stripe stripe = stripeOf(warehouseId);
+        stripe.invalidations.incrementAndGet();
+        stripe.loads.remove(warehouseId);
+    }
+
+    private WarehouseReservationResponse submit(Reservation reservation) {
+        Stripe stripe = stripeOf(reservation.warehouseId);
+        stripe.pending.add(reservation);
+
+        while (!reservation.done) {
+            if (stripe.settling.compareAndSet(false, true)) {
+                try {
+                    // Settle until our own request is through; anything left is handed on below
+                    while (!reservation.done) {
+                        stripe.settleRound();
+                    }
+                } finally {
+                    stripe.settling.set(false);
+                    // Wake a waiter so requests queued during the last round get settled
+                    Reservation next = stripe.pending.peek();
+                    if (next != null) {
+                        LockSupport.unpark(next.waiter);
+                    }
+                }
+            } else {
+                LockSupport.park(this);
+            }
+        }
+
+        if (reservation.failure != null) {
+            throw reservation.failure;
+        }
+        return reservation.result;
+    }
+
+    private Stripe stripeOf(Integer warehouseId) {
+        int hash = warehouseId.hashCode() * 0x9E3779B9;
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * Settles one warehouse's requests with one update for their net change,
+     * re-reading the row first if the known load would reject any of them
+     */
+    private void settle(Stripe stripe, Integer warehouseId, List<Reservation> requests) {
+        // Taken before anything is read, so a load invalidated meanwhile is not remembered
+        long stamp = stripe.invalidations.get();
+        // Change from the starting load after each admitted request, or before each rejected one
+        int[] offsets = new int[requests.size()];
+        boolean[] admitted = new boolean[requests.size()];
+
+        KnownLoad known = stripe.loads.get(warehouseId);
+        boolean fresh = false;
+        int offset;
+        int lowest;
+        int highest;
+        int admittedCount;
+        while (true) {
+            if (known == null) {
+                known = read(warehouseId);
+                fresh = true;
+            }
+
+            offset = 0;
+            lowest = Integer.MAX_VALUE;
+            highest = Integer.MIN_VALUE;
+            admittedCount = 0;
+            for (int i = 0; i < requests.size(); i++) {
+                long next = (long) known.load + offset + requests.get(i).delta;
+                admitted[i] = next >= 0 && next <= known.capacity;
+                if (admitted[i]) {
+                    offset += requests.get(i).delta;
+                    lowest = Math.min(lowest, offset);
+                    highest = Math.max(highest, offset);
+                    admittedCount++;
+                }
+                offsets[i] = offset;
+            }
+
+            if (admittedCount < requests.size() && !fresh) {
+                // Rejected against a load read earlier; only a rejection against the row itself is final
+                known = null;
+                continue;
+            }
+            break;
+        }
+
+        if (admittedCount == 0) {
+            stripe.remember(warehouseId, known, stamp);
+            for (int i = 0; i < requests.size(); i++) {
+                rejectAt(requests.get(i), known.capacity, known.load + offsets[i]);
+            }
+            return;
+        }
+
+        Warehouse updated = repository.adjustLoad(warehouseId, offset, lowest, highest);
+        if (updated == null) {
+            // The row moved too far since it was read; every request is still valid on its own
+            stripe.loads.remove(warehouseId);
+            for (Reservation request : requests) {
+                applyAlone(warehouseId, request);
+            }
+            return;
+        }
+
+        int capacity = updated.getCapacity();
+        int load = loadOf(updated);
+        int start = load - offset;
+        stripe.remember(warehouseId, new KnownLoad(capacity, load), stamp);
+        for (int i = 0; i < requests.size(); i++) {
+            Reservation request = requests.get(i);
+            if (admitted[i]) {
+                request.complete(new WarehouseReservationResponse(warehouseId, Math.abs(request.delta),
+                        capacity, start + offsets[i]), null);
+            } else if (fits(start + offsets[i] + (long) request.delta, capacity)) {
+                // The row moved between the read and the update, and now has room for this one
+                applyAlone(warehouseId, request);
+            } else {
+                rejectAt(request, capacity, start + offsets[i]);
+            }
+        }
+    }
+
+    /**
+     * Applies one request by itself, rejecting it only against a load it
+     * was read not to fit
+     */
+    private void applyAlone(Integer warehouseId, Reservation request) {
+        while (true) {
+            Warehouse updated = repository.adjustLoad(warehouseId, request.delta, request.delta, request.delta);
+            if (updated != null) {
+                request.complete(new WarehouseReservationResponse(warehouseId, Math.abs(request.delta),
+                        updated.getCapacity(), loadOf(updated)), null);
+                return;
+            }
+            KnownLoad current = read(warehouseId);
+            if (!fits((long) current.load + request.delta, current.capacity)) {
+                rejectAt(request, current.capacity, current.load);
+                return;
+            }
+            // Another write made room between the update and the read; try again
+        }
+    }
+
+    private KnownLoad read(Integer warehouseId) {
+        Warehouse warehouse = repository.findById(warehouseId);
+        return new KnownLoad(warehouse.getCapacity(), loadOf(warehouse));
+    }
+
+    private static int loadOf(Warehouse warehouse) {
+        return warehouse.getCurrentLoad() != null ? warehouse.getCurrentLoad() : 0;
+    }
+
+    private static boolean fits(long load, int capacity) {
+        return load >= 0 && load <= capacity;
+    }
+
+    private static void rejectAt(Reservation request, int capacity, int load) {
+        request.complete(null, new InvalidInputException(
+                rejection(request.warehouseId, request.delta, capacity, load)));
+    }
+
+    private static String rejection(Integer warehouseId, int delta, int capacity, int load) {
+        if (delta > 0) {
+            return "Warehouse " + warehouseId + " has room for " + (capacity - load) + ", cannot reserve " + delta;
+        }
+        return "Warehouse " + warehouseId + " holds " + load + ", cannot release " + (-delta);
+    }
+
+    /**
+     * Requests for the warehouses that hash to one stripe
+     */
+    private final class Stripe {
+        private final ConcurrentLinkedQueue<Reservation> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean settling = new AtomicBoolean();
+        // Last committed load per warehouse; invalidate may remove entries at any time
+        private final Map<Integer, KnownLoad> loads = new ConcurrentHashMap<>();
+        // Bumped on every invalidation so loads that raced with one are not remembered
+        private final AtomicLong invalidations = new AtomicLong();
+
+        void remember(Integer warehouseId, KnownLoad known, long stamp) {
+            if (invalidations.get() != stamp) {
+                loads.remove(warehouseId);
+                return;
+            }
+            loads.put(warehouseId, known);
+            // An invalidation may have slipped in between the check and the put
+            if (invalidations.get() != stamp) {
+                loads.remove(warehouseId);
+            }
+        }
+
+        /**
+         * Settles up to RESERVATION_MAX_BATCH queued requests; only the
+         * thread holding settling calls this
+         */
+        void settleRound() {
+            int maxBatch = Math.max(1, config.getIntConfig("RESERVATION_MAX_BATCH", 1000));
+            Map<Integer, List<Reservation>> byWarehouse = new LinkedHashMap<>();
+            Reservation reservation;
+            for (int taken = 0; taken < maxBatch && (reservation = pending.poll()) != null; taken++) {
+                byWarehouse.computeIfAbsent(reservation.warehouseId, id -> new ArrayList<>()).add(reservation);
+            }
+
+            for (Map.Entry<Integer, List<Reservation>> entry : byWarehouse.entrySet()) {
+                try {
+                    settle(this, entry.getKey(), entry.getValue());
+                } catch (RuntimeException e) {
+                    loads.remove(entry.getKey());
+                    for (Reservation request : entry.getValue()) {
+                        request.complete(null, e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class KnownLoad {
+        private final int capacity;
+        private final int load;
+
+        KnownLoad(int capacity, int load) {
+            this.capacity = capacity;
+            this.load = load;
+        }
+    }
+
+    /**
+     * One request, completed by whichever thread settles it
+     */
+    private static final class Reservation {
+        private final Integer warehouseId;
+        private final int delta;
+        private final Thread waiter = Thread.currentThread();
+
+        private WarehouseReservationResponse result;
+        private RuntimeException failure;
+        // Written last, so the fields above are visible once it reads true
+        private volatile boolean done;
+
+        Reservation(Integer warehouseId, int delta) {
+            this.warehouseId = warehouseId;
+            this.delta = delta;
+        }
+
+        void complete(WarehouseReservationResponse result, RuntimeException failure) {
+            this.result = result;
+            this.failure = failure;
+            this.done = true;
+            LockSupport.unpark(waiter);
+        }
+    }
+}
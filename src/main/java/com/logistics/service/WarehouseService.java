@@ -1,13 +1,21 @@
 package com.logistics.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logistics.dto.ImportResponse;
 import com.logistics.dto.WarehouseDTO;
+import com.logistics.dto.WarehouseReservationRequest;
+import com.logistics.dto.WarehouseReservationResponse;
 import com.logistics.exception.InvalidInputException;
 import com.logistics.model.Warehouse;
 import com.logistics.patterns.singleton.LoggingService;
+import com.logistics.patterns.singleton.LogisticsConfig;
 import com.logistics.repository.WarehouseRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,27 +23,51 @@ import java.util.stream.Collectors;
 public class WarehouseService {
 
     private final WarehouseRepository repository;
+    private final WarehouseReservationLedger ledger;
+    private final ObjectMapper objectMapper;
     private final LoggingService loggingService;
+    private final LogisticsConfig config;
 
     @Autowired
-    public WarehouseService(WarehouseRepository repository) {
+    public WarehouseService(WarehouseRepository repository, WarehouseReservationLedger ledger,
+                            ObjectMapper objectMapper) {
         this.repository = repository;
+        this.ledger = ledger;
+        this.objectMapper = objectMapper;
         this.loggingService = LoggingService.getInstance();
+        this.config = LogisticsConfig.getInstance();
     }
 
     public WarehouseDTO createWarehouse(WarehouseDTO dto) {
         validateWarehouseDTO(dto);
 
-        Warehouse warehouse = new Warehouse();
-        warehouse.setName(dto.getName());
-        warehouse.setLocation(dto.getLocation());
-        warehouse.setCapacity(dto.getCapacity());
-        warehouse.setCurrentLoad(dto.getCurrentLoad() != null ? dto.getCurrentLoad() : 0);
-
-        Warehouse created = repository.create(warehouse);
+        Warehouse created = repository.create(buildWarehouse(dto));
         return convertToDTO(created);
     }
 
+    /**
+     * Streams a CSV or NDJSON upload into the warehouses table with PostgreSQL COPY
+     */
+    public ImportResponse importWarehouses(InputStream in, String contentType) {
+        loggingService.info("Importing warehouses from {}", contentType);
+
+        try (BulkRecordReader<WarehouseDTO> reader =
+                     new BulkRecordReader<>(in, contentType, WarehouseDTO.class, objectMapper)) {
+            ImportPipeline<WarehouseDTO, Warehouse> rows = new ImportPipeline<>(reader, dto -> {
+                validateWarehouseDTO(dto);
+                return buildWarehouse(dto);
+            }, config.getIntConfig("IMPORT_MAX_REPORTED_REJECTIONS", 100));
+
+            ImportResponse response = rows.toResponse("warehouses", repository.bulkLoad(rows));
+            loggingService.info("Warehouse import completed: {} inserted, {} skipped, {} rejected",
+                    response.getInserted(), response.getSkipped(), response.getRejected());
+            return response;
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public List<WarehouseDTO> getAllWarehouses() {
         return repository.findAll().stream()
                 .map(this::convertToDTO)
@@ -56,11 +88,36 @@ public class WarehouseService {
         warehouse.setCurrentLoad(dto.getCurrentLoad());
 
         Warehouse updated = repository.update(id, warehouse);
+        ledger.invalidate(id);
         return convertToDTO(updated);
     }
 
     public void deleteWarehouse(Integer id) {
         repository.delete(id);
+        ledger.invalidate(id);
+    }
+
+    /**
+     * Adds load to a warehouse through the reservation ledger, which admits
+     * it against the last known load and writes it as a conditional delta, so
+     * concurrent reservations neither lose updates nor over-fill it
+     */
+    public WarehouseReservationResponse reserveLoad(Integer id, WarehouseReservationRequest request) {
+        return ledger.reserve(id, validateQuantity(request));
+    }
+
+    /**
+     * Takes load out of a warehouse, never below zero
+     */
+    public WarehouseReservationResponse releaseLoad(Integer id, WarehouseReservationRequest request) {
+        return ledger.release(id, validateQuantity(request));
+    }
+
+    private int validateQuantity(WarehouseReservationRequest request) {
+        if (request == null || request.getQuantity() == null || request.getQuantity() <= 0) {
+            throw new InvalidInputException("Quantity must be positive");
+        }
+        return request.getQuantity();
     }
 
     private void validateWarehouseDTO(WarehouseDTO dto) {
@@ -75,6 +132,15 @@ public class WarehouseService {
         }
     }
 
+    private Warehouse buildWarehouse(WarehouseDTO dto) {
+        Warehouse warehouse = new Warehouse();
+        warehouse.setName(dto.getName());
+        warehouse.setLocation(dto.getLocation());
+        warehouse.setCapacity(dto.getCapacity());
+        warehouse.setCurrentLoad(dto.getCurrentLoad() != null ? dto.getCurrentLoad() : 0);
+        return warehouse;
+    }
+
     private WarehouseDTO convertToDTO(Warehouse warehouse) {
         WarehouseDTO dto = new WarehouseDTO();
         dto.setId(warehouse.getId());
@@ -0,0 +1,47 @@
+-- Base schema. IF NOT EXISTS lets this run against databases that were
+-- created by hand before migrations existed.
+
+CREATE TABLE IF NOT EXISTS vehicles (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    vehicle_type VARCHAR(50) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    license_plate VARCHAR(50) UNIQUE NOT NULL,
+    capacity DECIMAL(10,2) NOT NULL CHECK (capacity > 0),
+    status VARCHAR(50) DEFAULT 'AVAILABLE',
+    max_altitude INT,
+    cargo_type VARCHAR(100),
+    fuel_type VARCHAR(50),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS warehouses (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    location VARCHAR(500) NOT NULL,
+    capacity INT NOT NULL CHECK (capacity > 0),
+    current_load INT DEFAULT 0 CHECK (current_load >= 0),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS shipments (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    tracking_number VARCHAR(100) UNIQUE NOT NULL,
+    shipment_type VARCHAR(50) NOT NULL,
+    sender_name VARCHAR(255) NOT NULL,
+    recipient_name VARCHAR(255) NOT NULL,
+    origin VARCHAR(500) NOT NULL,
+    destination VARCHAR(500) NOT NULL,
+    weight DECIMAL(10,2) NOT NULL CHECK (weight > 0),
+    status VARCHAR(50) DEFAULT 'PENDING',
+    priority VARCHAR(20) DEFAULT 'NORMAL',
+    estimated_delivery DATE,
+    vehicle_id INT,
+    warehouse_id INT,
+    is_fragile BOOLEAN DEFAULT FALSE,
+    temperature_controlled BOOLEAN DEFAULT FALSE,
+    customs_cleared BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (vehicle_id) REFERENCES vehicles(id),
+    FOREIGN KEY (warehouse_id) REFERENCES warehouses(id)
+);
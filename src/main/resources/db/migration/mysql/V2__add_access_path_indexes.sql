@@ -0,0 +1,43 @@
+-- Indexes for the repository access paths; list queries page by id, so the
+-- indexes end in id. vehicle_id and warehouse_id are already indexed by
+-- their foreign keys, which InnoDB extends with the primary key.
+-- MySQL has no partial indexes; the full indexes cover active statuses.
+-- MySQL has no CREATE INDEX IF NOT EXISTS either, so each index is created
+-- only when information_schema does not list one of that name yet; a
+-- database created by hand may already have it.
+
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'shipments'
+                       AND index_name = 'idx_shipments_status_id'),
+              'DO 0',
+              'CREATE INDEX idx_shipments_status_id ON shipments (status, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'shipments'
+                       AND index_name = 'idx_shipments_estimated_delivery'),
+              'DO 0',
+              'CREATE INDEX idx_shipments_estimated_delivery ON shipments (estimated_delivery, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'shipments'
+                       AND index_name = 'idx_shipments_weight'),
+              'DO 0',
+              'CREATE INDEX idx_shipments_weight ON shipments (weight, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'vehicles'
+                       AND index_name = 'idx_vehicles_status'),
+              'DO 0',
+              'CREATE INDEX idx_vehicles_status ON vehicles (status)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,12 @@
+-- Transport lanes between locations, the edges of the route graph. A lane
+-- runs one way; a two-way connection is two lanes. Locations match
+-- shipment origins and destinations on the part before any comma.
+
+CREATE TABLE IF NOT EXISTS lanes (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    origin VARCHAR(500) NOT NULL,
+    destination VARCHAR(500) NOT NULL,
+    transit_hours DECIMAL(8,2) NOT NULL CHECK (transit_hours > 0),
+    cost_per_kg DECIMAL(10,4) NOT NULL DEFAULT 0 CHECK (cost_per_kg >= 0),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
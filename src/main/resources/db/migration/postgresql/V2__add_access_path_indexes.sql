@@ -0,0 +1,37 @@
+-- Indexes for the repository access paths. Every list query pages by id,
+-- so the indexes end in id and serve both the filter and the ORDER BY.
+-- CONCURRENTLY keeps existing tables writable while the indexes build;
+-- Flyway runs this migration outside a transaction because of it.
+
+-- findByStatus and search?status=: WHERE status = ? AND id > ? ORDER BY id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_status_id
+    ON shipments (status, id);
+
+-- Foreign key lookups and search?vehicleId= / ?warehouseId=
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_vehicle_id
+    ON shipments (vehicle_id, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_warehouse_id
+    ON shipments (warehouse_id, id);
+
+-- Delivery date ranges and search?sort=estimatedDelivery
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_estimated_delivery
+    ON shipments (estimated_delivery, id);
+
+-- search?sort=weight and weight ranges
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_weight
+    ON shipments (weight, id);
+
+-- Shipments still in flight are a small, hot fraction of the table;
+-- partial indexes keep the dashboards' queries over them small too
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_active_delivery
+    ON shipments (estimated_delivery, id)
+    WHERE status IN ('PENDING', 'IN_TRANSIT');
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_shipments_active_vehicle
+    ON shipments (vehicle_id)
+    WHERE status IN ('PENDING', 'IN_TRANSIT');
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicles_available
+    ON vehicles (id)
+    WHERE status = 'AVAILABLE';